@@ -0,0 +1,97 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.bson.BsonBinaryMapper;
+import io.micronaut.serde.bson.BsonWriterEncoder;
+import io.micronaut.serde.data.catalog.Catalog;
+import org.bson.BsonBinaryWriter;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pooled BSON output buffer of {@link BsonBinaryMapper} with the previous path,
+ * which staged every document in a new {@link BasicOutputBuffer} and copied it through a
+ * {@link ByteArrayOutputStream}. Run with {@code -prof gc} to see the allocation difference.
+ */
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BsonWriteBenchmark {
+
+    private static final Argument<Catalog> CATALOG = Argument.of(Catalog.class);
+
+    @Benchmark
+    public byte[] bytesStaged(Holder holder) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        holder.writeStaged(output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] bytesPooled(Holder holder) throws IOException {
+        return holder.mapper.writeValueAsBytes(CATALOG, holder.catalog);
+    }
+
+    @Benchmark
+    public void streamStaged(Holder holder) throws IOException {
+        holder.writeStaged(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void streamPooled(Holder holder) throws IOException {
+        holder.mapper.writeValue(OutputStream.nullOutputStream(), CATALOG, holder.catalog);
+    }
+
+    @State(Scope.Thread)
+    public static class Holder {
+        @Param
+        FormatBenchmark.Payload payload;
+
+        ApplicationContext ctx;
+        BsonBinaryMapper mapper;
+        Serializer.EncoderContext encoderContext;
+        Serializer<? super Catalog> serializer;
+        Catalog catalog;
+
+        @Setup
+        public void setUp() throws IOException {
+            ctx = ApplicationContext.run();
+            mapper = ctx.getBean(BsonBinaryMapper.class);
+            encoderContext = mapper.getSerdeRegistry().newEncoderContext(null);
+            serializer = encoderContext.findSerializer(CATALOG).createSpecific(encoderContext, CATALOG);
+            catalog = payload.create();
+        }
+
+        void writeStaged(OutputStream output) throws IOException {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+                serializer.serialize(new BsonWriterEncoder(writer, LimitingStream.DEFAULT_LIMITS), encoderContext, CATALOG, catalog);
+            }
+            buffer.pipe(output);
+        }
+
+        @TearDown
+        public void tearDown() {
+            ctx.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.micronaut.serde;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.support.util.JsonNodeDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares buffering a value into a {@link JsonNode} tree with buffering it into a token buffer,
+ * as done by {@link Decoder#decodeBuffer()}.
+ */
+public class BufferBenchmark {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Benchmark
+    public Object treeBuffer(Input input) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(input.json)) {
+            Decoder decoder = JacksonDecoder.create(parser, LimitingStream.DEFAULT_LIMITS);
+            JsonNode node = decoder.decodeNode();
+            return JsonNodeDecoder.create(node, LimitingStream.DEFAULT_LIMITS).decodeArbitrary();
+        }
+    }
+
+    @Benchmark
+    public Object tokenBuffer(Input input) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(input.json)) {
+            Decoder decoder = JacksonDecoder.create(parser, LimitingStream.DEFAULT_LIMITS);
+            return decoder.decodeBuffer().decodeArbitrary();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({"SMALL", "LARGE"})
+        Size size = Size.SMALL;
+
+        byte[] json;
+
+        @Setup
+        public void setUp() {
+            StringBuilder builder = new StringBuilder("[");
+            int count = size == Size.SMALL ? 1 : 100;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"name").append(i)
+                    .append("\",\"active\":true,\"score\":").append(i * 0.5)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"],\"@type\":\"Item\"}");
+            }
+            json = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    public enum Size {
+        SMALL,
+        LARGE
+    }
+}
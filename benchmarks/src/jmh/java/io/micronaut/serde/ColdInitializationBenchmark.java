@@ -0,0 +1,133 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.data.InputConstructor;
+import io.micronaut.serde.data.InputField;
+import io.micronaut.serde.data.InputSetter;
+import io.micronaut.serde.data.IntArrayConstructor;
+import io.micronaut.serde.data.IntArrayField;
+import io.micronaut.serde.data.IntConstructor;
+import io.micronaut.serde.data.IntField;
+import io.micronaut.serde.data.IntegerConstructor;
+import io.micronaut.serde.data.IntegerField;
+import io.micronaut.serde.data.SimpleBean;
+import io.micronaut.serde.data.StringArrayConstructor;
+import io.micronaut.serde.data.StringArrayField;
+import io.micronaut.serde.data.StringConstructor;
+import io.micronaut.serde.data.StringField;
+import io.micronaut.serde.data.StringListConstructor;
+import io.micronaut.serde.data.StringListField;
+import io.micronaut.serde.data.User;
+import io.micronaut.serde.data.Users;
+import io.micronaut.serde.data.UsersNoArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first serializer / deserializer resolution of a set of beans on a fresh registry,
+ * with several threads warming up different beans at the same time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColdInitializationBenchmark {
+
+    private static final Argument<?>[] TYPES = {
+        Argument.of(InputConstructor.class),
+        Argument.of(InputField.class),
+        Argument.of(InputSetter.class),
+        Argument.of(IntArrayConstructor.class),
+        Argument.of(IntArrayField.class),
+        Argument.of(IntConstructor.class),
+        Argument.of(IntField.class),
+        Argument.of(IntegerConstructor.class),
+        Argument.of(IntegerField.class),
+        Argument.of(SimpleBean.class),
+        Argument.of(StringArrayConstructor.class),
+        Argument.of(StringArrayField.class),
+        Argument.of(StringConstructor.class),
+        Argument.of(StringField.class),
+        Argument.of(StringListConstructor.class),
+        Argument.of(StringListField.class),
+        Argument.of(User.class),
+        Argument.of(Users.class),
+        Argument.of(UsersNoArrays.class)
+    };
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void initializeConcurrently(Holder holder, FreshRegistry fresh) throws Exception {
+        int threads = holder.threads;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(holder.executor.submit(() -> {
+                barrier.await();
+                SerdeRegistry registry = fresh.registry;
+                Serializer.EncoderContext encoderContext = registry.newEncoderContext(null);
+                Deserializer.DecoderContext decoderContext = registry.newDecoderContext(null);
+                // every thread starts at a different type, and eventually meets the others
+                for (int i = 0; i < TYPES.length; i++) {
+                    Argument<Object> type = (Argument<Object>) TYPES[(offset + i) % TYPES.length];
+                    registry.findSerializer(type).createSpecific(encoderContext, type);
+                    registry.findDeserializer(type).createSpecific(decoderContext, type);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Holder {
+        @Param({"1", "4", "16"})
+        int threads;
+
+        ApplicationContext ctx;
+        SerdeRegistry registry;
+        ExecutorService executor;
+
+        @Setup
+        public void setUp() {
+            ctx = ApplicationContext.run();
+            registry = ctx.getBean(SerdeRegistry.class);
+            executor = Executors.newFixedThreadPool(threads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            executor.shutdownNow();
+            ctx.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshRegistry {
+        SerdeRegistry registry;
+
+        @Setup(Level.Invocation)
+        public void setUp(Holder holder) {
+            // the clone shares the bean context but starts with empty caches
+            registry = holder.registry.cloneWithConfiguration(null, null, null);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.jackson.databind.JacksonDatabindMapper;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.serde.bson.BsonBinaryMapper;
+import io.micronaut.serde.data.catalog.Catalog;
+import io.micronaut.serde.data.catalog.Catalogs;
+import io.micronaut.serde.jackson.JacksonJsonMapper;
+import io.micronaut.serde.json.stream.JsonStreamMapper;
+import io.micronaut.serde.oracle.jdbc.json.OracleJdbcJsonBinaryObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes realistic payloads with every format, and with jackson-databind as the
+ * baseline. Run with {@code ./gradlew jmhFormats}, which adds the gc
+ * profiler and writes a JSON report.
+ */
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FormatBenchmark {
+
+    private static final Argument<Catalog> CATALOG = Argument.of(Catalog.class);
+
+    @Benchmark
+    public byte[] write(Holder holder) throws IOException {
+        return holder.mapper.writeValueAsBytes(CATALOG, holder.catalog);
+    }
+
+    @Benchmark
+    public Catalog read(Holder holder) throws IOException {
+        return holder.mapper.readValue(holder.bytes, CATALOG);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] writeConcurrent(SharedHolder holder) throws IOException {
+        return holder.mapper.writeValueAsBytes(CATALOG, holder.catalog);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Catalog readConcurrent(SharedHolder holder) throws IOException {
+        return holder.mapper.readValue(holder.bytes, CATALOG);
+    }
+
+    @State(Scope.Thread)
+    public static class Holder extends MapperState {
+    }
+
+    /**
+     * Shared by all threads, so that they use the same mapper and serializers.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedHolder extends MapperState {
+    }
+
+    public abstract static class MapperState {
+        @Param
+        Format format;
+
+        @Param
+        Payload payload;
+
+        ApplicationContext ctx;
+        JsonMapper mapper;
+        Catalog catalog;
+        byte[] bytes;
+
+        @Setup
+        public void setUp() throws IOException {
+            ctx = ApplicationContext.run();
+            mapper = ctx.getBean(format.mapperType);
+            catalog = payload.create();
+            bytes = mapper.writeValueAsBytes(CATALOG, catalog);
+        }
+
+        @TearDown
+        public void tearDown() {
+            ctx.close();
+        }
+    }
+
+    public enum Format {
+        JACKSON(JacksonJsonMapper.class),
+        JSONP(JsonStreamMapper.class),
+        BSON(BsonBinaryMapper.class),
+        ORACLE_JSON(OracleJdbcJsonBinaryObjectMapper.class),
+        JACKSON_DATABIND(JacksonDatabindMapper.class);
+
+        final Class<? extends JsonMapper> mapperType;
+
+        Format(Class<? extends JsonMapper> mapperType) {
+            this.mapperType = mapperType;
+        }
+    }
+
+    public enum Payload {
+        /**
+         * A single product.
+         */
+        SMALL(1, 2, 2),
+        /**
+         * A thousand products, large arrays and maps.
+         */
+        LARGE(1000, 2, 2),
+        /**
+         * A few products in a deep taxonomy tree.
+         */
+        DEEP(10, 100, 1);
+
+        private final int products;
+        private final int depth;
+        private final int fanOut;
+
+        Payload(int products, int depth, int fanOut) {
+            this.products = products;
+            this.depth = depth;
+            this.fanOut = fanOut;
+        }
+
+        Catalog create() {
+            return Catalogs.create(products, depth, fanOut);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.data.catalog.Catalog;
+import io.micronaut.serde.oracle.jdbc.json.OracleJdbcJsonBinaryObjectMapper;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import oracle.sql.json.OracleJsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pooled OSON buffers and the {@link ByteBuffer} read path of
+ * {@link OracleJdbcJsonBinaryObjectMapper} with the previous path, which staged every value in a
+ * new {@link ByteArrayOutputStream} and parsed byte arrays through a
+ * {@link ByteArrayInputStream}. Run with {@code -prof gc} to see the allocation difference.
+ */
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OsonBenchmark {
+
+    private static final Argument<Catalog> CATALOG = Argument.of(Catalog.class);
+
+    @Benchmark
+    public byte[] writeStaged(Holder holder) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OracleJsonGenerator generator = holder.factory.createJsonBinaryGenerator(output)) {
+            holder.mapper.writeValue(generator, holder.catalog, CATALOG);
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writePooled(Holder holder) throws IOException {
+        return holder.mapper.writeValueAsBytes(CATALOG, holder.catalog);
+    }
+
+    @Benchmark
+    public int writeToBuffer(Holder holder) throws IOException {
+        // stands in for binding the buffer to a statement
+        return holder.mapper.writeValueToBuffer(CATALOG, holder.catalog, ByteBuffer::remaining);
+    }
+
+    @Benchmark
+    public Catalog readStaged(Holder holder) throws IOException {
+        try (OracleJsonParser parser = holder.factory.createJsonBinaryParser(new ByteArrayInputStream(holder.oson))) {
+            return holder.mapper.readValue(parser, CATALOG);
+        }
+    }
+
+    @Benchmark
+    public Catalog readBuffer(Holder holder) throws IOException {
+        return holder.mapper.readValue(holder.osonBuffer, CATALOG);
+    }
+
+    @State(Scope.Thread)
+    public static class Holder {
+        @Param
+        FormatBenchmark.Payload payload;
+
+        ApplicationContext ctx;
+        OracleJdbcJsonBinaryObjectMapper mapper;
+        OracleJsonFactory factory;
+        Catalog catalog;
+        byte[] oson;
+        ByteBuffer osonBuffer;
+
+        @Setup
+        public void setUp() throws IOException {
+            ctx = ApplicationContext.run();
+            mapper = ctx.getBean(OracleJdbcJsonBinaryObjectMapper.class);
+            factory = new OracleJsonFactory();
+            catalog = payload.create();
+            oson = mapper.writeValueAsBytes(CATALOG, catalog);
+            osonBuffer = ByteBuffer.allocateDirect(oson.length).put(oson).flip();
+        }
+
+        @TearDown
+        public void tearDown() {
+            ctx.close();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.serde.data.Summary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a wide document into a DTO that maps three of its properties, so that almost all of
+ * the input is skipped. {@code readAll} reads the same document into a map for comparison.
+ */
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectionBenchmark {
+
+    private static final Argument<Summary> SUMMARY = Argument.of(Summary.class);
+    private static final Argument<Map<String, Object>> MAP = Argument.mapOf(String.class, Object.class);
+
+    @Benchmark
+    public Summary readProjection(Holder holder) throws IOException {
+        return holder.mapper.readValue(holder.bytes, SUMMARY);
+    }
+
+    @Benchmark
+    public Map<String, Object> readAll(Holder holder) throws IOException {
+        return holder.mapper.readValue(holder.bytes, MAP);
+    }
+
+    @State(Scope.Thread)
+    public static class Holder {
+        @Param
+        FormatBenchmark.Format format;
+
+        @Param({"50", "500"})
+        int width;
+
+        ApplicationContext ctx;
+        JsonMapper mapper;
+        byte[] bytes;
+
+        @Setup
+        public void setUp() throws IOException {
+            ctx = ApplicationContext.run();
+            mapper = ctx.getBean(format.mapperType);
+            bytes = mapper.writeValueAsBytes(MAP, wideDocument(width));
+        }
+
+        @TearDown
+        public void tearDown() {
+            ctx.close();
+        }
+    }
+
+    /**
+     * A document with the mapped properties spread between {@code width} unmapped ones, which
+     * alternate between scalars, arrays and nested objects.
+     */
+    static Map<String, Object> wideDocument(int width) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("id", "doc-1");
+        for (int i = 0; i < width; i++) {
+            if (i == width / 2) {
+                document.put("name", "Wide document");
+            }
+            switch (i % 3) {
+                case 0 -> document.put("scalar" + i, "value " + i);
+                case 1 -> {
+                    List<Object> list = new ArrayList<>();
+                    for (int j = 0; j < 10; j++) {
+                        list.add(i * j);
+                    }
+                    document.put("array" + i, list);
+                }
+                default -> {
+                    Map<String, Object> nested = new LinkedHashMap<>();
+                    nested.put("label", "nested " + i);
+                    nested.put("weight", i * 0.5);
+                    nested.put("tags", List.of("a", "b", "c"));
+                    nested.put("child", Map.of("depth", 2, "flag", i % 2 == 0));
+                    document.put("object" + i, nested);
+                }
+            }
+        }
+        document.put("version", 3);
+        return document;
+    }
+}
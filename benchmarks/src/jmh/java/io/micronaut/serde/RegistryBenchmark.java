@@ -0,0 +1,106 @@
+package io.micronaut.serde;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.data.User;
+import io.micronaut.serde.data.Users;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures {@link SerdeRegistry} serializer / deserializer lookups, both for cached types (hit)
+ * and for the first lookup on a fresh registry (miss).
+ */
+public class RegistryBenchmark {
+
+    private static final Argument<Users> USERS = Argument.of(Users.class);
+    private static final Argument<List<String>> STRING_LIST = Argument.listOf(String.class);
+
+    private static final Argument<?>[] TYPES = {
+        Argument.STRING,
+        Argument.INT,
+        Argument.of(BigDecimal.class),
+        Argument.of(Instant.class),
+        Argument.of(User.class),
+        USERS,
+        STRING_LIST,
+        Argument.mapOf(String.class, Integer.class),
+        Argument.of(Map.class)
+    };
+
+    @Benchmark
+    public Object serializerHitRaw(Holder holder) throws Exception {
+        return holder.registry.findSerializer(USERS);
+    }
+
+    @Benchmark
+    public Object deserializerHitRaw(Holder holder) throws Exception {
+        return holder.registry.findDeserializer(USERS);
+    }
+
+    @Benchmark
+    public Object serializerHitGeneric(Holder holder) throws Exception {
+        return holder.registry.findSerializer(STRING_LIST);
+    }
+
+    @Benchmark
+    public Object deserializerHitGeneric(Holder holder) throws Exception {
+        return holder.registry.findDeserializer(STRING_LIST);
+    }
+
+    @Benchmark
+    public void serializerMiss(FreshRegistry fresh, Blackhole blackhole) throws Exception {
+        for (Argument<?> type : TYPES) {
+            blackhole.consume(fresh.registry.findSerializer(type));
+        }
+    }
+
+    @Benchmark
+    public void deserializerMiss(FreshRegistry fresh, Blackhole blackhole) throws Exception {
+        for (Argument<?> type : TYPES) {
+            blackhole.consume(fresh.registry.findDeserializer(type));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Holder {
+        ApplicationContext ctx;
+        SerdeRegistry registry;
+
+        @Setup
+        public void setUp() throws Exception {
+            ctx = ApplicationContext.run();
+            registry = ctx.getBean(SerdeRegistry.class);
+            for (Argument<?> type : TYPES) {
+                registry.findSerializer(type);
+                registry.findDeserializer(type);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            ctx.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshRegistry {
+        SerdeRegistry registry;
+
+        @Setup(Level.Invocation)
+        public void setUp(Holder holder) {
+            // the clone shares the bean context but starts with empty caches
+            registry = holder.registry.cloneWithConfiguration(null, null, null);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.micronaut.serde.data;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Maps only a few properties of a much wider document.
+ */
+@Serdeable
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Summary(String id, String name, int version) {
+}
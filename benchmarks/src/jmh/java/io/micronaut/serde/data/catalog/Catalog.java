@@ -0,0 +1,17 @@
+package io.micronaut.serde.data.catalog;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Serdeable
+public record Catalog(
+    String id,
+    Instant generatedAt,
+    List<Product> products,
+    Map<String, Category> categories,
+    CategoryNode taxonomy
+) {
+}
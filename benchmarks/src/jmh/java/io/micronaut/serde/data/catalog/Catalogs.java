@@ -0,0 +1,102 @@
+package io.micronaut.serde.data.catalog;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic catalog payloads of different shapes.
+ */
+public final class Catalogs {
+
+    private Catalogs() {
+    }
+
+    /**
+     * @param products The number of products
+     * @param depth    The depth of the taxonomy tree
+     * @param fanOut   The number of children of each taxonomy node
+     * @return The catalog
+     */
+    public static Catalog create(int products, int depth, int fanOut) {
+        Random random = new Random(42);
+        List<Product> productList = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            productList.add(product(random, i));
+        }
+        Map<String, Category> categories = new LinkedHashMap<>();
+        for (int i = 0; i < Math.max(1, products / 10); i++) {
+            categories.put("category-" + i, new Category(word(random, 12), random.nextInt(1000)));
+        }
+        return new Catalog(
+            "catalog-" + products,
+            Instant.ofEpochSecond(1_700_000_000L, 123_000_000L),
+            productList,
+            categories,
+            node(random, depth, fanOut)
+        );
+    }
+
+    private static Product product(Random random, int i) {
+        Product product = new Product();
+        product.setId(i);
+        product.setName(word(random, 16));
+        product.setDescription(word(random, 120));
+        product.setPrice(BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+        product.setReleased(LocalDate.of(2000 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        product.setUpdated(OffsetDateTime.of(2024, 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), 0, 0, ZoneOffset.ofHours(random.nextInt(12))));
+        List<String> tags = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            tags.add(word(random, 8));
+        }
+        product.setTags(tags);
+        double[] ratings = new double[32];
+        for (int r = 0; r < ratings.length; r++) {
+            ratings[r] = random.nextInt(50) / 10.0;
+        }
+        product.setRatings(ratings);
+        Dimensions dimensions = new Dimensions();
+        dimensions.setWidth(random.nextInt(1000) / 10.0);
+        dimensions.setHeight(random.nextInt(1000) / 10.0);
+        dimensions.setDepth(random.nextInt(1000) / 10.0);
+        product.setDimensions(dimensions);
+        if (random.nextBoolean()) {
+            product.setMedia(new Media.Image("https://example.com/" + word(random, 10) + ".png", 640, 480));
+        } else {
+            product.setMedia(new Media.Video("https://example.com/" + word(random, 10) + ".mp4", Duration.ofSeconds(random.nextInt(600))));
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int a = 0; a < 4; a++) {
+            attributes.put(word(random, 6), word(random, 12));
+        }
+        product.setAttributes(attributes);
+        return product;
+    }
+
+    private static CategoryNode node(Random random, int depth, int fanOut) {
+        if (depth == 0) {
+            return new CategoryNode(word(random, 10), null);
+        }
+        List<CategoryNode> children = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            children.add(node(random, depth - 1, fanOut));
+        }
+        return new CategoryNode(word(random, 10), children);
+    }
+
+    private static String word(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,7 @@
+package io.micronaut.serde.data.catalog;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record Category(String name, int products) {
+}
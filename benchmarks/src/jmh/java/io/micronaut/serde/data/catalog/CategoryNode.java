@@ -0,0 +1,9 @@
+package io.micronaut.serde.data.catalog;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+@Serdeable
+public record CategoryNode(String label, List<CategoryNode> children) {
+}
@@ -0,0 +1,34 @@
+package io.micronaut.serde.data.catalog;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public class Dimensions {
+    private double width;
+    private double height;
+    private double depth;
+
+    public double getWidth() {
+        return width;
+    }
+
+    public void setWidth(double width) {
+        this.width = width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public void setHeight(double height) {
+        this.height = height;
+    }
+
+    public double getDepth() {
+        return depth;
+    }
+
+    public void setDepth(double depth) {
+        this.depth = depth;
+    }
+}
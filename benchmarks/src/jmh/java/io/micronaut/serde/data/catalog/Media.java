@@ -0,0 +1,26 @@
+package io.micronaut.serde.data.catalog;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.Duration;
+
+@Serdeable
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = Media.Image.class, name = "image"),
+    @JsonSubTypes.Type(value = Media.Video.class, name = "video")
+})
+public sealed interface Media {
+
+    String url();
+
+    @Serdeable
+    record Image(String url, int width, int height) implements Media {
+    }
+
+    @Serdeable
+    record Video(String url, Duration length) implements Media {
+    }
+}
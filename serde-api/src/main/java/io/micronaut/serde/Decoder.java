@@ -20,8 +20,10 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.util.BinaryCodecUtil;
+import io.micronaut.serde.util.PrimitiveArrayCodecUtil;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -83,6 +85,61 @@ public interface Decoder extends AutoCloseable {
     @Nullable
     String decodeKey() throws IOException;
 
+    /**
+     * Decodes a key and resolves it against the given table of known property names. Known keys
+     * can be resolved without materializing a {@link String}.
+     * <p>
+     * If the key can't be resolved, this method returns {@link PropertyNameTable#UNRESOLVED} and
+     * the key is <b>not</b> consumed, it must be read using {@link #decodeKey()}. The default
+     * implementation never resolves a key.
+     *
+     * @param table         The known property names
+     * @param expectedIndex The position of the key that is expected next, e.g. the one following
+     *                      the previous key, or {@code -1} if there is no expectation
+     * @return The position of the key in the table, {@link PropertyNameTable#NO_MORE_KEYS} if
+     * there are no more keys, or {@link PropertyNameTable#UNRESOLVED}
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default int decodeKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        return PropertyNameTable.UNRESOLVED;
+    }
+
+    /**
+     * Decodes the next key that is contained in the given table, skipping all other keys and
+     * their values. This allows deserializers that ignore unknown properties to project the
+     * input to the properties they declare, and decoders to skip the unneeded values without
+     * materializing their keys or tokenizing them where the format allows it.
+     * <p>
+     * Unlike {@link #decodeKeyIndex(PropertyNameTable, int)}, this method never returns
+     * {@link PropertyNameTable#UNRESOLVED}.
+     *
+     * @param table         The wanted property names
+     * @param expectedIndex The position of the key that is expected next, or {@code -1} if there
+     *                      is no expectation
+     * @return The position of the key in the table or {@link PropertyNameTable#NO_MORE_KEYS} if
+     * there are no more keys
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default int decodeKnownKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        while (true) {
+            int index = decodeKeyIndex(table, expectedIndex);
+            if (index != PropertyNameTable.UNRESOLVED) {
+                return index;
+            }
+            String key = decodeKey();
+            if (key == null) {
+                return PropertyNameTable.NO_MORE_KEYS;
+            }
+            index = table.indexOf(key);
+            if (index != -1) {
+                return index;
+            }
+            skipValue();
+        }
+    }
+
     /**
      * Decodes a string.
      * @return The string, never {@code null}
@@ -340,6 +397,74 @@ public interface Decoder extends AutoCloseable {
         return decodeNull() ? null : decodeBinary();
     }
 
+    /**
+     * Decode binary data into the given stream. Accepts the same shapes as {@link #decodeBinary()},
+     * but decoders that support it write the data while it is decoded, without holding the full
+     * payload in memory. The stream is not closed.
+     *
+     * @param out The stream to write the data to
+     * @return The number of bytes written
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default long decodeBinary(@NonNull OutputStream out) throws IOException {
+        byte[] data = decodeBinary();
+        out.write(data);
+        return data.length;
+    }
+
+    /**
+     * Decode an array of int values. Equivalent to decoding an array and calling
+     * {@link #decodeIntNullable()} for every element, with {@code null} elements decoded as
+     * {@code 0}.
+     *
+     * @return The decoded array
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default int @NonNull [] decodeIntArray() throws IOException {
+        return PrimitiveArrayCodecUtil.decodeIntArray(this);
+    }
+
+    /**
+     * Decode an array of long values. Equivalent to decoding an array and calling
+     * {@link #decodeLongNullable()} for every element, with {@code null} elements decoded as
+     * {@code 0}.
+     *
+     * @return The decoded array
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default long @NonNull [] decodeLongArray() throws IOException {
+        return PrimitiveArrayCodecUtil.decodeLongArray(this);
+    }
+
+    /**
+     * Decode an array of float values. Equivalent to decoding an array and calling
+     * {@link #decodeFloatNullable()} for every element, with {@code null} elements decoded as
+     * {@code 0}.
+     *
+     * @return The decoded array
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default float @NonNull [] decodeFloatArray() throws IOException {
+        return PrimitiveArrayCodecUtil.decodeFloatArray(this);
+    }
+
+    /**
+     * Decode an array of double values. Equivalent to decoding an array and calling
+     * {@link #decodeDoubleNullable()} for every element, with {@code null} elements decoded as
+     * {@code 0}.
+     *
+     * @return The decoded array
+     * @throws IOException If an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    default double @NonNull [] decodeDoubleArray() throws IOException {
+        return PrimitiveArrayCodecUtil.decodeDoubleArray(this);
+    }
+
     /**
      * Attempt to decode a null value. Returns {@code false} if this value is not null, and another method should be
      * used for decoding. Returns {@code true} if this value was null, and the cursor has been advanced to the next
@@ -403,6 +528,10 @@ public interface Decoder extends AutoCloseable {
     }
 
     /**
+     * Finalize the current structure. When {@code consumeLeftElements} is true, the remaining
+     * elements are skipped up to the matching end token. Deserializers also use this to stop
+     * reading an object early, so implementations should skip without decoding the elements.
+     *
      * @param consumeLeftElements True to consume left elements
      * @throws IllegalStateException If there are still elements left to consume and consumeLeftElements is false
      * @throws IOException If an unrecoverable error occurs
@@ -22,6 +22,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.tree.JsonNode;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -189,11 +190,36 @@ public abstract class DelegatingDecoder implements Decoder {
         return delegate().decodeBinary();
     }
 
+    @Override
+    public long decodeBinary(@NonNull OutputStream out) throws IOException {
+        return delegate().decodeBinary(out);
+    }
+
     @Override
     public byte @Nullable [] decodeBinaryNullable() throws IOException {
         return delegate().decodeBinaryNullable();
     }
 
+    @Override
+    public int @NonNull [] decodeIntArray() throws IOException {
+        return delegate().decodeIntArray();
+    }
+
+    @Override
+    public long @NonNull [] decodeLongArray() throws IOException {
+        return delegate().decodeLongArray();
+    }
+
+    @Override
+    public float @NonNull [] decodeFloatArray() throws IOException {
+        return delegate().decodeFloatArray();
+    }
+
+    @Override
+    public double @NonNull [] decodeDoubleArray() throws IOException {
+        return delegate().decodeDoubleArray();
+    }
+
     @Override
     public boolean decodeNull() throws IOException {
         return delegate().decodeNull();
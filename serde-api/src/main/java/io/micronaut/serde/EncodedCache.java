@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Cache of the format specific representations of an immutable value, keyed by the identity of
+ * the function computing them. Lookups are lock free, new entries are added copy-on-write since
+ * there are only ever a few encoders per value.
+ *
+ * @param <S> The type of the value
+ * @since 2.12.0
+ */
+@Internal
+final class EncodedCache<S> {
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] entries = EMPTY;
+
+    /**
+     * Get the representation of the given value, computing it on first use.
+     *
+     * @param source  The value, always the same for this cache
+     * @param encoder The function computing the representation
+     * @param <E>     The representation type
+     * @return The representation
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    <E> E get(@NonNull S source, @NonNull Function<? super S, E> encoder) {
+        Object[] entries = this.entries;
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] == encoder) {
+                return (E) entries[i + 1];
+            }
+        }
+        synchronized (this) {
+            entries = this.entries;
+            for (int i = 0; i < entries.length; i += 2) {
+                if (entries[i] == encoder) {
+                    return (E) entries[i + 1];
+                }
+            }
+            E result = encoder.apply(source);
+            Object[] copy = Arrays.copyOf(entries, entries.length + 2);
+            copy[entries.length] = encoder;
+            copy[entries.length + 1] = result;
+            this.entries = copy;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An object key that is encoded once and written many times with
+ * {@link Encoder#encodeKey(EncodedKey)}. Encoders can compute and cache a format specific
+ * representation of the key, for example the escaped UTF-8 bytes, using
+ * {@link #getEncoded(Function)}.
+ *
+ * @since 2.12.0
+ */
+public final class EncodedKey {
+    private final String value;
+    private final EncodedCache<String> encoded = new EncodedCache<>();
+
+    private EncodedKey(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a new key.
+     *
+     * @param value The key value
+     * @return The key
+     */
+    @NonNull
+    public static EncodedKey of(@NonNull String value) {
+        Objects.requireNonNull(value, "value");
+        return new EncodedKey(value);
+    }
+
+    /**
+     * @return The key value
+     */
+    @NonNull
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Get a format specific representation of this key. The representation is computed once per
+     * key and {@code encoder} instance, so the encoder should be a constant.
+     *
+     * @param encoder The function computing the representation
+     * @param <E>     The representation type
+     * @return The representation
+     */
+    @NonNull
+    public <E> E getEncoded(@NonNull Function<String, E> encoder) {
+        return encoded.get(value, encoder);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EncodedKey other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
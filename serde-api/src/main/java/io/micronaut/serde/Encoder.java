@@ -18,8 +18,10 @@ package io.micronaut.serde;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.type.Argument;
 import io.micronaut.serde.util.BinaryCodecUtil;
+import io.micronaut.serde.util.PrimitiveArrayCodecUtil;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -67,6 +69,17 @@ public interface Encoder extends AutoCloseable {
      */
     void encodeKey(@NonNull String key) throws IOException;
 
+    /**
+     * Encode a pre-encoded key. Encoders that support it write the cached form of the key
+     * instead of escaping and encoding it again.
+     * @param key The key, never {@code null}
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    default void encodeKey(@NonNull EncodedKey key) throws IOException {
+        encodeKey(key.getValue());
+    }
+
     /**
      * Encode a string.
      * @param value The string, never {@code null}
@@ -158,6 +171,78 @@ public interface Encoder extends AutoCloseable {
         BinaryCodecUtil.encodeToArray(this, data);
     }
 
+    /**
+     * Encode binary data read from the given stream. The output is the same as for
+     * {@link #encodeBinary(byte[])}, but encoders that support it write the data while it is read,
+     * without holding the full payload in memory. The stream is not closed.
+     *
+     * @param data   The input data
+     * @param length The number of bytes to read, or {@code -1} to read until the end of the stream
+     * @throws IOException If an error occurs, or the stream ends before {@code length} bytes
+     * @since 2.12.0
+     * @implNote The default implementation reads the data into an array and passes it to
+     * {@link #encodeBinary(byte[])}.
+     */
+    default void encodeBinary(@NonNull InputStream data, int length) throws IOException {
+        encodeBinary(BinaryCodecUtil.readBinary(data, length));
+    }
+
+    /**
+     * Encode a range of int values as an array. Equivalent to encoding an array and calling
+     * {@link #encodeInt(int)} for every element of the range.
+     *
+     * @param array  The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    default void encodeIntArray(int @NonNull [] array, int offset, int length) throws IOException {
+        PrimitiveArrayCodecUtil.encodeIntArray(this, array, offset, length);
+    }
+
+    /**
+     * Encode a range of long values as an array. Equivalent to encoding an array and calling
+     * {@link #encodeLong(long)} for every element of the range.
+     *
+     * @param array  The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    default void encodeLongArray(long @NonNull [] array, int offset, int length) throws IOException {
+        PrimitiveArrayCodecUtil.encodeLongArray(this, array, offset, length);
+    }
+
+    /**
+     * Encode a range of float values as an array. Equivalent to encoding an array and calling
+     * {@link #encodeFloat(float)} for every element of the range.
+     *
+     * @param array  The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    default void encodeFloatArray(float @NonNull [] array, int offset, int length) throws IOException {
+        PrimitiveArrayCodecUtil.encodeFloatArray(this, array, offset, length);
+    }
+
+    /**
+     * Encode a range of double values as an array. Equivalent to encoding an array and calling
+     * {@link #encodeDouble(double)} for every element of the range.
+     *
+     * @param array  The values
+     * @param offset The index of the first value to encode
+     * @param length The number of values to encode
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    default void encodeDoubleArray(double @NonNull [] array, int offset, int length) throws IOException {
+        PrimitiveArrayCodecUtil.encodeDoubleArray(this, array, offset, length);
+    }
+
     /**
      * Encode {@code null}.
      * @throws IOException If an error occurs
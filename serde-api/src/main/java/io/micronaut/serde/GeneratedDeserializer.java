@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.beans.exceptions.IntrospectionException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * A deserializer generated at compilation time for a type annotated with
+ * {@link io.micronaut.serde.annotation.Serdeable#generated()}. The generated code calls the
+ * constructor and the setters directly, while the keys are matched and the values are decoded by
+ * a {@link PropertyReader}. It is registered in the metadata of the type under
+ * {@link io.micronaut.serde.config.annotation.SerdeConfig#GENERATED_DESERIALIZER} and
+ * instantiated by the metadata itself, without reflection.
+ *
+ * @param <T> The bean type
+ * @since 2.12.0
+ */
+@Internal
+public interface GeneratedDeserializer<T> extends Deserializer<T>, UpdatingDeserializer<T> {
+
+    /**
+     * Create a deserializer bound to the introspection of the type.
+     *
+     * @param introspection           The introspection
+     * @param ignoreUnknown           Whether to ignore unknown properties
+     * @param failOnNullForPrimitives Whether to fail when a primitive constructor parameter is missing
+     * @return The bound deserializer
+     */
+    @NonNull
+    GeneratedDeserializer<T> bind(@NonNull BeanIntrospection<T> introspection,
+                                  boolean ignoreUnknown,
+                                  boolean failOnNullForPrimitives);
+
+    /**
+     * Reads the properties of a generated deserializer from an object. The properties are the
+     * constructor parameters, in declaration order, followed by the properties that are set after
+     * instantiation. The property deserializers are resolved on first use, so that a type can
+     * refer to itself.
+     */
+    final class PropertyReader {
+        /**
+         * The value of a property that should not be set.
+         */
+        public static final Object ABSENT = new Object();
+        // a property that was read, but should not be set
+        private static final Object SKIPPED = new Object();
+
+        private final BeanIntrospection<?> introspection;
+        private final PropertyNameTable keys;
+        private final int size;
+        private final int creatorSize;
+        private final Argument<Object>[] arguments;
+        private final boolean[] nullable;
+        private final boolean[] mustSetField;
+        private final boolean[] primitive;
+        private final boolean ignoreUnknown;
+        private final boolean failOnNullForPrimitives;
+        private final Object[] absent;
+        private volatile Deserializer<Object>[] deserializers;
+
+        /**
+         * @param introspection           The introspection of the type
+         * @param keys                    The keys of the properties, followed by the keys that
+         *                                are ignored
+         * @param names                   The names of the properties that are set after
+         *                                instantiation
+         * @param ignoreUnknown           Whether to ignore unknown properties
+         * @param failOnNullForPrimitives Whether to fail when a primitive constructor parameter is missing
+         */
+        @SuppressWarnings("unchecked")
+        public PropertyReader(@NonNull BeanIntrospection<?> introspection,
+                              @NonNull PropertyNameTable keys,
+                              @NonNull String[] names,
+                              boolean ignoreUnknown,
+                              boolean failOnNullForPrimitives) {
+            Argument<Object>[] constructorArguments = (Argument<Object>[]) introspection.getConstructorArguments();
+            this.introspection = introspection;
+            this.keys = keys;
+            this.creatorSize = constructorArguments.length;
+            this.size = creatorSize + names.length;
+            this.ignoreUnknown = ignoreUnknown;
+            this.failOnNullForPrimitives = failOnNullForPrimitives;
+            this.arguments = new Argument[size];
+            for (int i = 0; i < creatorSize; i++) {
+                Argument<Object> argument = constructorArguments[i];
+                // records store metadata in the bean property
+                AnnotationMetadata propertyMetadata = introspection.getProperty(argument.getName(), argument.getType())
+                    .map(BeanProperty::getAnnotationMetadata)
+                    .orElse(AnnotationMetadata.EMPTY_METADATA);
+                arguments[i] = Argument.of(
+                    argument.getType(),
+                    argument.getName(),
+                    new AnnotationMetadataHierarchy(propertyMetadata, argument.getAnnotationMetadata()),
+                    argument.getTypeParameters()
+                );
+            }
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                BeanProperty<?, Object> property = (BeanProperty<?, Object>) introspection.getProperty(name).orElseThrow(() ->
+                    new IntrospectionException("No property [" + name + "] found for type: " + introspection.getBeanType().getName())
+                );
+                arguments[creatorSize + i] = property.asArgument();
+            }
+            this.nullable = new boolean[size];
+            this.mustSetField = new boolean[size];
+            this.primitive = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                Argument<Object> argument = arguments[i];
+                Class<?> type = argument.getType();
+                nullable[i] = argument.isNullable();
+                mustSetField[i] = argument.isNonNull() || type.equals(Optional.class)
+                    || type.equals(OptionalLong.class)
+                    || type.equals(OptionalDouble.class)
+                    || type.equals(OptionalInt.class);
+                primitive[i] = i < creatorSize && argument.isPrimitive();
+            }
+            this.absent = new Object[size];
+            Arrays.fill(absent, ABSENT);
+        }
+
+        /**
+         * Read the properties of an object. Missing constructor parameters are set to their
+         * default value, and properties that should not be set are {@link #ABSENT}.
+         *
+         * @param decoder The decoder
+         * @param context The decoder context
+         * @param type    The bean type
+         * @return The values of the properties
+         * @throws IOException If the object can't be read
+         */
+        @NonNull
+        public Object[] read(@NonNull Decoder decoder,
+                             @NonNull Deserializer.DecoderContext context,
+                             @NonNull Argument<?> type) throws IOException {
+            Deserializer<Object>[] deserializers = deserializers(context);
+            Object[] values = absent.clone();
+            Decoder objectDecoder = decoder.decodeObject(type);
+            int remaining = size;
+            int expectedKey = 0;
+            boolean completed = false;
+            // unless unknown properties are ignored, check the keys that follow the last property
+            while (!ignoreUnknown || remaining > 0) {
+                // when unknown properties are ignored, let the decoder skip them in a format specific way
+                int index = ignoreUnknown
+                    ? objectDecoder.decodeKnownKeyIndex(keys, expectedKey)
+                    : objectDecoder.decodeKeyIndex(keys, expectedKey);
+                if (index == PropertyNameTable.NO_MORE_KEYS) {
+                    completed = true;
+                    break;
+                }
+                String key = null;
+                if (index == PropertyNameTable.UNRESOLVED) {
+                    key = objectDecoder.decodeKey();
+                    if (key == null) {
+                        completed = true;
+                        break;
+                    }
+                    index = keys.indexOf(key);
+                } else {
+                    expectedKey = index + 1;
+                }
+                if (index > -1 && index < size && values[index] == ABSENT) {
+                    values[index] = readValue(objectDecoder, context, deserializers[index], index);
+                    remaining--;
+                } else if (ignoreUnknown || index >= size) {
+                    objectDecoder.skipValue();
+                } else {
+                    throw new SerdeException("Unknown property [" + (key == null ? keys.getName(index) : key) + "] encountered during deserialization of type: " + type);
+                }
+            }
+            objectDecoder.finishStructure(!completed);
+            for (int i = 0; i < size; i++) {
+                Object value = values[i];
+                if (value == ABSENT) {
+                    values[i] = provideDefaultValue(context, deserializers[i], i);
+                } else if (value == SKIPPED) {
+                    values[i] = ABSENT;
+                }
+            }
+            return values;
+        }
+
+        private Object readValue(Decoder decoder,
+                                 Deserializer.DecoderContext context,
+                                 Deserializer<Object> deserializer,
+                                 int index) throws IOException {
+            Argument<Object> argument = arguments[index];
+            try {
+                Object value = deserializer.deserializeNullable(decoder, context, argument);
+                if (value != null || nullable[index]) {
+                    return value;
+                }
+                if (primitive[index]) {
+                    // a null primitive can't be passed to the constructor
+                    return provideDefaultValue(context, deserializer, index);
+                }
+                if (mustSetField[index]) {
+                    value = deserializer.getDefaultValue(context, argument);
+                }
+                return value == null && index >= creatorSize ? SKIPPED : value;
+            } catch (InvalidFormatException e) {
+                throw new InvalidPropertyFormatException(e, argument);
+            } catch (Exception e) {
+                throw new SerdeException("Error decoding property [" + argument + "] of type [" + introspection.getBeanType() + "]: " + e.getMessage(), e);
+            }
+        }
+
+        private Object provideDefaultValue(Deserializer.DecoderContext context,
+                                           Deserializer<Object> deserializer,
+                                           int index) throws SerdeException {
+            Argument<Object> argument = arguments[index];
+            if (primitive[index] && failOnNullForPrimitives) {
+                throw new SerdeException("Unable to deserialize type [" + introspection.getBeanType().getName() + "]. Required constructor parameter [" + argument + "] at index [" + index + "] is not present or is null in the supplied data");
+            }
+            Object value = mustSetField[index] || primitive[index] ? deserializer.getDefaultValue(context, argument) : null;
+            return value == null && index >= creatorSize ? ABSENT : value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Deserializer<Object>[] deserializers(Deserializer.DecoderContext context) throws SerdeException {
+            Deserializer<Object>[] resolved = deserializers;
+            if (resolved == null) {
+                // racing threads resolve the same deserializers, keep whichever is published last
+                resolved = new Deserializer[size];
+                for (int i = 0; i < size; i++) {
+                    Argument<Object> argument = arguments[i];
+                    resolved[i] = (Deserializer<Object>) context.findDeserializer(argument).createSpecific(context, argument);
+                }
+                deserializers = resolved;
+            }
+            return resolved;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.beans.exceptions.IntrospectionException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.config.annotation.SerdeConfig;
+import io.micronaut.serde.exceptions.SerdeException;
+
+/**
+ * A serializer generated at compilation time for a type annotated with
+ * {@link io.micronaut.serde.annotation.Serdeable#generated()}. The generated code writes the
+ * properties in a fixed order, with their names and inclusion rules resolved at compilation
+ * time, and reads them with direct getter calls or field accesses. It is registered in the
+ * metadata of the type under {@link SerdeConfig#GENERATED_SERIALIZER} and instantiated by the
+ * metadata itself, without reflection.
+ *
+ * @param <T> The bean type
+ * @since 2.12.0
+ */
+@Internal
+public interface GeneratedSerializer<T> extends ObjectSerializer<T> {
+
+    /**
+     * Create a serializer bound to the introspection of the type.
+     *
+     * @param introspection    The introspection
+     * @param defaultInclusion The inclusion rule of the properties that don't declare one
+     * @return The bound serializer
+     */
+    @NonNull
+    GeneratedSerializer<T> bind(@NonNull BeanIntrospection<T> introspection,
+                                @NonNull SerdeConfig.SerInclude defaultInclusion);
+
+    /**
+     * Check whether a property value should be written, according to its inclusion rule.
+     *
+     * @param include    The inclusion rule
+     * @param serializer The serializer of the value
+     * @param context    The encoder context
+     * @param value      The value
+     * @return Whether to write the property
+     */
+    static boolean shouldInclude(@NonNull SerdeConfig.SerInclude include,
+                                 @NonNull Serializer<Object> serializer,
+                                 @NonNull Serializer.EncoderContext context,
+                                 @Nullable Object value) {
+        return switch (include) {
+            case ALWAYS -> true;
+            case NON_NULL -> value != null;
+            case NON_ABSENT -> !serializer.isAbsent(context, value);
+            case NON_EMPTY -> !serializer.isEmpty(context, value);
+            case NEVER -> false;
+        };
+    }
+
+    /**
+     * The types and serializers of the properties written by a generated serializer. The
+     * serializers are resolved on first use, so that a type can refer to itself.
+     */
+    final class PropertySerializers {
+        private final String[] names;
+        private final Argument<Object>[] arguments;
+        private volatile Serializer<Object>[] serializers;
+
+        /**
+         * @param introspection The introspection of the type
+         * @param names         The names of the bean properties, in the order they are written
+         */
+        @SuppressWarnings("unchecked")
+        public PropertySerializers(@NonNull BeanIntrospection<?> introspection, @NonNull String... names) {
+            this.names = names;
+            this.arguments = new Argument[names.length];
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                BeanProperty<?, Object> property = (BeanProperty<?, Object>) introspection.getProperty(name).orElseThrow(() ->
+                    new IntrospectionException("No property [" + name + "] found for type: " + introspection.getBeanType().getName())
+                );
+                arguments[i] = property.asArgument();
+            }
+        }
+
+        /**
+         * @param index The position of the property
+         * @return The type of the property
+         */
+        @NonNull
+        public Argument<Object> argument(int index) {
+            return arguments[index];
+        }
+
+        /**
+         * @param context The encoder context
+         * @param index   The position of the property
+         * @return The serializer of the property
+         * @throws SerdeException If the serializers can't be resolved
+         */
+        @NonNull
+        public Serializer<Object> serializer(@NonNull Serializer.EncoderContext context, int index) throws SerdeException {
+            Serializer<Object>[] resolved = serializers;
+            if (resolved == null) {
+                // racing threads resolve the same serializers, keep whichever is published last
+                resolved = resolve(context);
+                serializers = resolved;
+            }
+            return resolved[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private Serializer<Object>[] resolve(Serializer.EncoderContext context) throws SerdeException {
+            Serializer<Object>[] resolved = new Serializer[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                Argument<Object> argument = arguments[i];
+                try {
+                    Serializer<Object> serializer = (Serializer<Object>) context.findSerializer(argument);
+                    resolved[i] = serializer.createSpecific(context, argument);
+                } catch (SerdeException e) {
+                    throw new SerdeException("Error resolving serializer for property [" + names[i] + "] of type [" + argument.getType().getName() + "]: " + e.getMessage(), e);
+                }
+            }
+            return resolved;
+        }
+    }
+}
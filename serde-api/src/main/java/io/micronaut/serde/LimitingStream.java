@@ -100,6 +100,16 @@ public abstract class LimitingStream {
         remainingDepth++;
     }
 
+    /**
+     * Reset the limits of this stream, so that the instance can be reused for a new stream.
+     *
+     * @param remainingLimits The limits of the new stream
+     * @since 2.12.0
+     */
+    protected final void resetLimits(@NonNull RemainingLimits remainingLimits) {
+        this.remainingDepth = remainingLimits.remainingDepth;
+    }
+
     private void reportMaxDepthExceeded() throws SerdeException {
         boolean encoder = this instanceof Encoder;
         throw new SerdeException("Maximum depth exceeded while " + (encoder ? "serializing" : "deserializing") + ". The maximum nesting depth can be increased, if necessary, using the " + SerdeConfiguration.PREFIX + ".maximum-nesting-depth config property.");
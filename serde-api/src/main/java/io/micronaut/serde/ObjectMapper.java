@@ -17,16 +17,22 @@ package io.micronaut.serde;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonFeatures;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.SerializationConfiguration;
+import org.reactivestreams.Processor;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Sub-interface of {@link JsonMapper} with customizations.
@@ -67,6 +73,79 @@ public interface ObjectMapper extends JsonMapper {
         return this;
     }
 
+    /**
+     * Read a sequence of values from the given stream, deserializing one value at a time, so
+     * that only the current value is held in memory. If the input starts with an array, its
+     * elements are read. Otherwise, the input is read as a sequence of whitespace separated
+     * values (e.g. newline-delimited JSON), if the format supports it.
+     *
+     * <p>The default implementation reads the input as a {@link JsonNode}
+     * and binds the elements of a top-level array one at a time with
+     * {@link #readValueFromTree(JsonNode, Argument)}. It holds the parsed
+     * tree, mappers that can decode the input incrementally override it.</p>
+     *
+     * @param inputStream The input stream, closed when the iterator is closed
+     * @param type        The value type
+     * @param <T>         The value type
+     * @return The value iterator
+     * @throws IOException If the input could not be opened
+     * @since 2.12.0
+     */
+    @NonNull
+    default <T> ValueIterator<T> readValues(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        JsonNode tree;
+        try (inputStream) {
+            tree = readValue(inputStream, Argument.of(JsonNode.class));
+        }
+        return new TreeValueIterator<>(this, type, tree);
+    }
+
+    /**
+     * Read a value from the remaining bytes of the given NIO buffer. The position of the buffer
+     * is not changed. Implementations read heap and direct buffers in place where the format
+     * allows it; the default implementation copies the remaining bytes to an array.
+     *
+     * @param byteBuffer The buffer
+     * @param type       The value type
+     * @param <T>        The value type
+     * @return The value
+     * @throws IOException If the value could not be read
+     * @since 2.12.0
+     */
+    default <T> T readValue(@NonNull ByteBuffer byteBuffer, @NonNull Argument<T> type) throws IOException {
+        ByteBuffer buffer = byteBuffer.duplicate();
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return readValue(buffer.array(), type);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return readValue(bytes, type);
+    }
+
+    /**
+     * Create a reactive {@link Processor} that parses the input bytes and deserializes every
+     * complete value to the given type. {@code null} values are skipped. The default
+     * implementation binds the {@link JsonNode}s produced by
+     * {@link #createReactiveParser(Consumer, boolean)} with
+     * {@link #readValueFromTree(io.micronaut.json.tree.JsonNode, Argument)}, mappers that can
+     * deserialize directly from the parser override it.
+     *
+     * @param type        The value type
+     * @param onSubscribe An additional onSubscribe callback that is called when the processor is subscribed to
+     * @param streamArray Whether to return a top-level JSON array as a stream of elements rather than a single array
+     * @param <T>         The value type
+     * @return The reactive processor
+     * @since 2.12.0
+     */
+    @NonNull
+    default <T> Processor<byte[], T> createReactiveParser(@NonNull Argument<T> type,
+                                                         @NonNull Consumer<Processor<byte[], T>> onSubscribe,
+                                                         boolean streamArray) {
+        TreeMappingProcessor<T> processor = new TreeMappingProcessor<>(this, type);
+        processor.setDelegate(createReactiveParser(ignored -> onSubscribe.accept(processor), streamArray));
+        return processor;
+    }
+
     /**
      * Returns the {@link SerdeRegistry} used by this object mapper, if possible.
      *
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringIntMap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * An immutable table of the property names known to a deserializer. Used with
+ * {@link Decoder#decodeKeyIndex(PropertyNameTable, int)} to resolve object keys straight to a
+ * position in this table, without materializing a {@link String} for every key.
+ * <p>
+ * The names are interned, so decoders that canonicalize field names (like jackson) can match
+ * them by identity. Decoders that can compare the raw input can compute a format specific
+ * representation of the names once per table using {@link #getEncoded(Function)}.
+ *
+ * @since 2.12.0
+ */
+public final class PropertyNameTable {
+    /**
+     * Returned by {@link Decoder#decodeKeyIndex(PropertyNameTable, int)} when there are no more
+     * keys in the current object.
+     */
+    public static final int NO_MORE_KEYS = -1;
+    /**
+     * Returned by {@link Decoder#decodeKeyIndex(PropertyNameTable, int)} when the key could not be
+     * resolved against the table. The key is <b>not</b> consumed and must be read using
+     * {@link Decoder#decodeKey()}.
+     */
+    public static final int UNRESOLVED = -2;
+
+    private final String[] names;
+    private final StringIntMap positions;
+    private final EncodedCache<PropertyNameTable> encoded = new EncodedCache<>();
+
+    private PropertyNameTable(String[] names) {
+        this.names = names;
+        this.positions = new StringIntMap(names.length);
+        for (int i = 0; i < names.length; i++) {
+            positions.put(names[i], i);
+        }
+    }
+
+    /**
+     * Create a new table. The position of every name is its index in the given collection.
+     *
+     * @param names The distinct property names
+     * @return The table
+     */
+    @NonNull
+    public static PropertyNameTable of(@NonNull Collection<String> names) {
+        String[] array = new String[names.size()];
+        int i = 0;
+        for (String name : names) {
+            array[i++] = name.intern();
+        }
+        return new PropertyNameTable(array);
+    }
+
+    /**
+     * @return The number of names in this table
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @param position The position
+     * @return The interned name at the given position
+     */
+    @NonNull
+    public String getName(int position) {
+        return names[position];
+    }
+
+    /**
+     * Find the position of the given name.
+     *
+     * @param name The name
+     * @return The position or {@code -1} if this table doesn't contain the name
+     */
+    public int indexOf(@NonNull String name) {
+        return positions.get(name, -1);
+    }
+
+    /**
+     * Get a format specific representation of this table, for example the names pre-encoded as
+     * the bytes expected in the input. The representation is computed once per table and
+     * {@code encoder} instance, so the encoder should be a constant.
+     *
+     * @param encoder The function computing the representation
+     * @param <E>     The representation type
+     * @return The representation
+     */
+    @NonNull
+    public <E> E getEncoded(@NonNull Function<PropertyNameTable, E> encoder) {
+        return encoded.get(this, encoder);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(names);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.tree.JsonNode;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+
+/**
+ * Default implementation of {@link ObjectMapper#createReactiveParser(Argument, java.util.function.Consumer, boolean)}
+ * that binds each {@link JsonNode} produced by the untyped reactive parser with
+ * {@link ObjectMapper#readValueFromTree(JsonNode, Argument)}.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+@Internal
+final class TreeMappingProcessor<T> implements Processor<byte[], T> {
+    private final ObjectMapper objectMapper;
+    private final Argument<T> type;
+    private Processor<byte[], JsonNode> delegate;
+
+    TreeMappingProcessor(ObjectMapper objectMapper, Argument<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    void setDelegate(Processor<byte[], JsonNode> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        delegate.onSubscribe(s);
+    }
+
+    @Override
+    public void onNext(byte[] bytes) {
+        delegate.onNext(bytes);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        delegate.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        delegate.onComplete();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        delegate.subscribe(new Subscriber<>() {
+            private Subscription subscription;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                s.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(JsonNode node) {
+                if (done) {
+                    return;
+                }
+                if (node.isNull()) {
+                    // null can't be forwarded, replace the demand it used
+                    subscription.request(1);
+                    return;
+                }
+                T value;
+                try {
+                    value = objectMapper.readValueFromTree(node, type);
+                } catch (IOException | RuntimeException e) {
+                    done = true;
+                    subscription.cancel();
+                    s.onError(e);
+                    return;
+                }
+                if (value == null) {
+                    subscription.request(1);
+                } else {
+                    s.onNext(value);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (!done) {
+                    done = true;
+                    s.onError(t);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    s.onComplete();
+                }
+            }
+        });
+    }
+}
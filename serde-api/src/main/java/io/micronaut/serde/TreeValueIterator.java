@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.tree.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Default implementation of {@link ObjectMapper#readValues(java.io.InputStream, Argument)} that
+ * binds the elements of a parsed {@link JsonNode} array one at a time with
+ * {@link ObjectMapper#readValueFromTree(JsonNode, Argument)}.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+@Internal
+final class TreeValueIterator<T> implements ValueIterator<T> {
+    private final ObjectMapper objectMapper;
+    private final Argument<T> type;
+    private JsonNode values;
+    private int index;
+
+    /**
+     * @param objectMapper The mapper binding the values
+     * @param type         The value type
+     * @param tree         The array of values, a single value or {@code null} for an empty input
+     */
+    TreeValueIterator(ObjectMapper objectMapper, Argument<T> type, @Nullable JsonNode tree) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        if (tree == null) {
+            this.values = JsonNode.createArrayNode(List.of());
+        } else {
+            this.values = tree.isArray() ? tree : JsonNode.createArrayNode(List.of(tree));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return values != null && index < values.size();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JsonNode value = values.get(index++);
+        try {
+            return value.isNull() ? null : objectMapper.readValueFromTree(value, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        values = null;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An iterator over values that are deserialized one at a time from an input, see
+ * {@link ObjectMapper#readValues(java.io.InputStream, io.micronaut.core.type.Argument)}. Decoding
+ * errors are thrown from {@link #hasNext()} and {@link #next()} as {@link UncheckedIOException}.
+ * The iterator must be closed to release the input, unless it was fully consumed.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+public interface ValueIterator<T> extends Iterator<T>, Closeable {
+
+    /**
+     * Create a sequential stream over the remaining values. Closing the stream closes this
+     * iterator.
+     *
+     * @return The stream
+     */
+    @NonNull
+    default Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(() -> {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+}
@@ -57,6 +57,31 @@ public @interface Serdeable {
     @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.NAMING)
     Class<? extends PropertyNamingStrategy> naming() default IdentityStrategy.class;
 
+    /**
+     * Generate a dedicated serializer and deserializer for this type at compilation time, that
+     * access the properties and the constructor directly instead of going through the
+     * introspection. Nothing is generated for types that need runtime customizations (views,
+     * filters, subtypes, references...), and the generated code is not used when the type is
+     * customized at runtime (naming strategy, unwrapping...): the default implementation is used
+     * instead. Only supported by the Java annotation processor.
+     *
+     * @return Whether to generate a serializer and a deserializer
+     * @since 2.12.0
+     */
+    @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.GENERATED)
+    boolean generated() default false;
+
+    /**
+     * Stop reading an object as soon as all of its properties have been deserialized. The rest of
+     * the object is skipped by the decoder without being checked for unknown properties, which
+     * speeds up reading a few leading fields out of a large document.
+     *
+     * @return Whether to stop once all properties are consumed
+     * @since 2.12.0
+     */
+    @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.STOP_WHEN_COMPLETE)
+    boolean stopWhenComplete() default false;
+
     /**
      * Annotation used to indicate a type is serializable.
      */
@@ -88,6 +113,13 @@ public @interface Serdeable {
          */
         @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.NAMING)
         Class<? extends PropertyNamingStrategy> naming() default IdentityStrategy.class;
+
+        /**
+         * @return Whether to generate a serializer at compilation time, see {@link Serdeable#generated()}.
+         * @since 2.12.0
+         */
+        @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.GENERATED)
+        boolean generated() default false;
     }
 
     /**
@@ -121,5 +153,19 @@ public @interface Serdeable {
          */
         @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.NAMING)
         Class<? extends PropertyNamingStrategy> naming() default IdentityStrategy.class;
+
+        /**
+         * @return Whether to stop once all properties are consumed, see {@link Serdeable#stopWhenComplete()}.
+         * @since 2.12.0
+         */
+        @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.STOP_WHEN_COMPLETE)
+        boolean stopWhenComplete() default false;
+
+        /**
+         * @return Whether to generate a deserializer at compilation time, see {@link Serdeable#generated()}.
+         * @since 2.12.0
+         */
+        @AliasFor(annotation = SerdeConfig.class, member = SerdeConfig.GENERATED)
+        boolean generated() default false;
     }
 }
@@ -199,6 +199,34 @@ public @interface SerdeConfig {
      */
     String RUNTIME_NAMING = "runtimeNaming";
 
+    /**
+     * Whether a dedicated serializer and deserializer should be generated at compilation time.
+     *
+     * @since 2.12.0
+     */
+    String GENERATED = "generated";
+
+    /**
+     * The serializer generated at compilation time.
+     *
+     * @since 2.12.0
+     */
+    String GENERATED_SERIALIZER = "generatedSerializer";
+
+    /**
+     * The deserializer generated at compilation time.
+     *
+     * @since 2.12.0
+     */
+    String GENERATED_DESERIALIZER = "generatedDeserializer";
+
+    /**
+     * Whether deserialization should stop reading an object once all its properties are consumed.
+     *
+     * @since 2.12.0
+     */
+    String STOP_WHEN_COMPLETE = "stopWhenComplete";
+
     /**
      * Internal metadata type for wrapped settings.
      */
@@ -21,7 +21,10 @@ import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Encoder;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Base64;
 
 /**
@@ -48,6 +51,27 @@ public final class BinaryCodecUtil {
         return buffer.toByteArray();
     }
 
+    /**
+     * Decode an array of numbers into the given stream.
+     *
+     * @param base The decoder
+     * @param out  The output stream
+     * @return The number of bytes written
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    public static long decodeFromArray(Decoder base, OutputStream out) throws IOException {
+        long n = 0;
+        try (Decoder arrayDecoder = base.decodeArray(BYTE_ARRAY)) {
+            while (arrayDecoder.hasNextArrayValue()) {
+                Byte b = arrayDecoder.decodeByteNullable();
+                out.write(b == null ? 0 : b);
+                n++;
+            }
+        }
+        return n;
+    }
+
     public static byte[] decodeFromBase64String(Decoder base) throws IOException {
         String s = base.decodeString();
         try {
@@ -65,6 +89,57 @@ public final class BinaryCodecUtil {
         }
     }
 
+    /**
+     * Encode the content of the given stream as an array of numbers, without buffering it.
+     *
+     * @param encoder The encoder
+     * @param data    The input data
+     * @param length  The number of bytes to read, or {@code -1} to read the full stream
+     * @throws IOException If an error occurs
+     * @since 2.12.0
+     */
+    public static void encodeToArray(Encoder encoder, InputStream data, int length) throws IOException {
+        try (Encoder arrayEncoder = encoder.encodeArray(BYTE_ARRAY)) {
+            byte[] chunk = new byte[Math.min(8192, length < 0 ? 8192 : length)];
+            int remaining = length;
+            while (remaining != 0) {
+                int n = data.read(chunk, 0, remaining < 0 ? chunk.length : Math.min(chunk.length, remaining));
+                if (n == -1) {
+                    if (remaining > 0) {
+                        throw new EOFException("Expected " + length + " bytes of binary data, but the stream ended early");
+                    }
+                    break;
+                }
+                for (int i = 0; i < n; i++) {
+                    arrayEncoder.encodeByte(chunk[i]);
+                }
+                if (remaining > 0) {
+                    remaining -= n;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read binary data from a stream.
+     *
+     * @param data   The input data
+     * @param length The number of bytes to read, or {@code -1} to read the full stream
+     * @return The data
+     * @throws IOException If an error occurs, or the stream ends before {@code length} bytes
+     * @since 2.12.0
+     */
+    public static byte[] readBinary(InputStream data, int length) throws IOException {
+        if (length < 0) {
+            return data.readAllBytes();
+        }
+        byte[] bytes = data.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Expected " + length + " bytes of binary data, but the stream ended early");
+        }
+        return bytes;
+    }
+
     public static void encodeToBase64String(Encoder encoder, byte[] data) throws IOException {
         encoder.encodeString(Base64.getEncoder().encodeToString(data));
     }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Encoder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Common implementations for reading/writing primitive number arrays element by element.
+ *
+ * @since 2.12.0
+ */
+@Internal
+public final class PrimitiveArrayCodecUtil {
+    private static final Argument<int[]> INT_ARRAY = Argument.of(int[].class);
+    private static final Argument<long[]> LONG_ARRAY = Argument.of(long[].class);
+    private static final Argument<float[]> FLOAT_ARRAY = Argument.of(float[].class);
+    private static final Argument<double[]> DOUBLE_ARRAY = Argument.of(double[].class);
+
+    /**
+     * Initial buffer size when decoding an array of unknown length.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private PrimitiveArrayCodecUtil() {
+    }
+
+    /**
+     * Grow a decoding buffer.
+     *
+     * @param buffer The full buffer
+     * @return The new buffer
+     */
+    public static int[] grow(int[] buffer) {
+        return Arrays.copyOf(buffer, Math.max(INITIAL_CAPACITY, buffer.length * 2));
+    }
+
+    /**
+     * Grow a decoding buffer.
+     *
+     * @param buffer The full buffer
+     * @return The new buffer
+     */
+    public static long[] grow(long[] buffer) {
+        return Arrays.copyOf(buffer, Math.max(INITIAL_CAPACITY, buffer.length * 2));
+    }
+
+    /**
+     * Grow a decoding buffer.
+     *
+     * @param buffer The full buffer
+     * @return The new buffer
+     */
+    public static float[] grow(float[] buffer) {
+        return Arrays.copyOf(buffer, Math.max(INITIAL_CAPACITY, buffer.length * 2));
+    }
+
+    /**
+     * Grow a decoding buffer.
+     *
+     * @param buffer The full buffer
+     * @return The new buffer
+     */
+    public static double[] grow(double[] buffer) {
+        return Arrays.copyOf(buffer, Math.max(INITIAL_CAPACITY, buffer.length * 2));
+    }
+
+    public static int[] decodeIntArray(Decoder base) throws IOException {
+        int[] buffer = new int[INITIAL_CAPACITY];
+        int size = 0;
+        try (Decoder arrayDecoder = base.decodeArray(INT_ARRAY)) {
+            while (arrayDecoder.hasNextArrayValue()) {
+                if (size == buffer.length) {
+                    buffer = grow(buffer);
+                }
+                Integer value = arrayDecoder.decodeIntNullable();
+                buffer[size++] = value == null ? 0 : value;
+            }
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public static long[] decodeLongArray(Decoder base) throws IOException {
+        long[] buffer = new long[INITIAL_CAPACITY];
+        int size = 0;
+        try (Decoder arrayDecoder = base.decodeArray(LONG_ARRAY)) {
+            while (arrayDecoder.hasNextArrayValue()) {
+                if (size == buffer.length) {
+                    buffer = grow(buffer);
+                }
+                Long value = arrayDecoder.decodeLongNullable();
+                buffer[size++] = value == null ? 0 : value;
+            }
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public static float[] decodeFloatArray(Decoder base) throws IOException {
+        float[] buffer = new float[INITIAL_CAPACITY];
+        int size = 0;
+        try (Decoder arrayDecoder = base.decodeArray(FLOAT_ARRAY)) {
+            while (arrayDecoder.hasNextArrayValue()) {
+                if (size == buffer.length) {
+                    buffer = grow(buffer);
+                }
+                Float value = arrayDecoder.decodeFloatNullable();
+                buffer[size++] = value == null ? 0 : value;
+            }
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public static double[] decodeDoubleArray(Decoder base) throws IOException {
+        double[] buffer = new double[INITIAL_CAPACITY];
+        int size = 0;
+        try (Decoder arrayDecoder = base.decodeArray(DOUBLE_ARRAY)) {
+            while (arrayDecoder.hasNextArrayValue()) {
+                if (size == buffer.length) {
+                    buffer = grow(buffer);
+                }
+                Double value = arrayDecoder.decodeDoubleNullable();
+                buffer[size++] = value == null ? 0 : value;
+            }
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public static void encodeIntArray(Encoder encoder, int[] array, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        try (Encoder arrayEncoder = encoder.encodeArray(INT_ARRAY)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                arrayEncoder.encodeInt(array[i]);
+            }
+        }
+    }
+
+    public static void encodeLongArray(Encoder encoder, long[] array, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        try (Encoder arrayEncoder = encoder.encodeArray(LONG_ARRAY)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                arrayEncoder.encodeLong(array[i]);
+            }
+        }
+    }
+
+    public static void encodeFloatArray(Encoder encoder, float[] array, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        try (Encoder arrayEncoder = encoder.encodeArray(FLOAT_ARRAY)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                arrayEncoder.encodeFloat(array[i]);
+            }
+        }
+    }
+
+    public static void encodeDoubleArray(Encoder encoder, double[] array, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        try (Encoder arrayEncoder = encoder.encodeArray(DOUBLE_ARRAY)) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                arrayEncoder.encodeDouble(array[i]);
+            }
+        }
+    }
+}
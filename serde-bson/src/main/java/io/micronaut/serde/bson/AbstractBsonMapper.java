@@ -21,14 +21,18 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonStreamConfig;
 import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.Encoder;
 import io.micronaut.serde.LimitingStream;
 import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
+import io.micronaut.serde.ValueIterator;
 import io.micronaut.serde.config.SerdeConfiguration;
+import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
+import io.micronaut.serde.support.util.DecoderValueIterator;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
 import io.micronaut.serde.support.util.JsonNodeEncoder;
 import org.bson.AbstractBsonWriter;
@@ -36,10 +40,12 @@ import org.bson.BsonReader;
 import org.reactivestreams.Processor;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.function.Consumer;
 
 /**
@@ -78,7 +84,7 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     protected abstract AbstractBsonWriter createBsonWriter(OutputStream bsonOutput) throws IOException;
 
     @NonNull
-    private LimitingStream.RemainingLimits limits() {
+    protected final LimitingStream.RemainingLimits limits() {
         return serdeConfiguration == null ? LimitingStream.DEFAULT_LIMITS : LimitingStream.limitsFromConfiguration(serdeConfiguration);
     }
 
@@ -92,13 +98,30 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     @Override
     public <T> void writeValue(OutputStream outputStream, Argument<T> type, T object) throws IOException {
         try (AbstractBsonWriter bsonWriter = createBsonWriter(outputStream)) {
-            if (object == null) {
-                bsonWriter.writeNull();
+            writeValue(bsonWriter, type, object);
+            bsonWriter.flush();
+        }
+    }
+
+    /**
+     * Write a value to the given writer, without flushing it.
+     *
+     * @param bsonWriter The writer
+     * @param type       The value type, or {@code null} to use the runtime type of the value
+     * @param object     The value
+     * @param <T>        The value type
+     * @throws IOException If the value could not be written
+     */
+    protected final <T> void writeValue(AbstractBsonWriter bsonWriter, @Nullable Argument<T> type, @Nullable T object) throws IOException {
+        if (object == null) {
+            bsonWriter.writeNull();
+        } else {
+            BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter, limits());
+            if (type == null) {
+                serialize(encoder, object);
             } else {
-                BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter, limits());
                 serialize(encoder, object, type);
             }
-            bsonWriter.flush();
         }
     }
 
@@ -120,13 +143,63 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
         return readValue(toByteBuffer(inputStream), type);
     }
 
+    /**
+     * Reads a sequence of length-prefixed BSON documents, like the output of {@code mongodump}.
+     * Only the current document is held in memory.
+     */
+    @Override
+    public <T> ValueIterator<T> readValues(InputStream inputStream, Argument<T> type) throws IOException {
+        final Deserializer<? extends T> deserializer = decoderContext.findDeserializer(type).createSpecific(decoderContext, type);
+        return new DecoderValueIterator<>(deserializer, decoderContext, type, inputStream) {
+            @Override
+            protected Decoder nextValueDecoder() throws IOException {
+                byte[] document = readDocument(inputStream);
+                if (document == null) {
+                    return null;
+                }
+                return new BsonReaderDecoder(createBsonReader(ByteBuffer.wrap(document)), limits());
+            }
+        };
+    }
+
+    @Nullable
+    private static byte[] readDocument(InputStream inputStream) throws IOException {
+        byte[] lengthBytes = new byte[4];
+        int read = inputStream.readNBytes(lengthBytes, 0, lengthBytes.length);
+        if (read == 0) {
+            return null;
+        }
+        if (read < lengthBytes.length) {
+            throw new EOFException("Unexpected end of BSON document stream");
+        }
+        int length = ByteBuffer.wrap(lengthBytes).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (length < lengthBytes.length + 1) {
+            throw new SerdeException("Invalid BSON document size: " + length);
+        }
+        byte[] document = new byte[length];
+        System.arraycopy(lengthBytes, 0, document, 0, lengthBytes.length);
+        if (inputStream.readNBytes(document, lengthBytes.length, length - lengthBytes.length) < length - lengthBytes.length) {
+            throw new EOFException("Unexpected end of BSON document stream");
+        }
+        return document;
+    }
+
     @Override
     public <T> T readValue(byte[] byteArray, Argument<T> type) throws IOException {
         return readValue(ByteBuffer.wrap(byteArray), type);
     }
 
-    private <T> T readValue(ByteBuffer byteBuffer, Argument<T> type) throws IOException {
-        try (BsonReader bsonReader = createBsonReader(byteBuffer)) {
+    @Override
+    public <T> T readValue(io.micronaut.core.io.buffer.ByteBuffer<?> byteBuffer, Argument<T> type) throws IOException {
+        return readValue(byteBuffer.asNioBuffer(), type);
+    }
+
+    /**
+     * Reads the document directly from the buffer, without copying it.
+     */
+    @Override
+    public <T> T readValue(ByteBuffer byteBuffer, Argument<T> type) throws IOException {
+        try (BsonReader bsonReader = createBsonReader(byteBuffer.duplicate())) {
             return readValue(bsonReader, type);
         }
     }
@@ -172,12 +245,7 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     @Override
     public void writeValue(OutputStream outputStream, Object object) throws IOException {
         try (AbstractBsonWriter bsonWriter = createBsonWriter(outputStream)) {
-            if (object == null) {
-                bsonWriter.writeNull();
-            } else {
-                BsonWriterEncoder encoder = new BsonWriterEncoder(bsonWriter, limits());
-                serialize(encoder, object);
-            }
+            writeValue(bsonWriter, null, object);
             bsonWriter.flush();
         }
     }
@@ -204,13 +272,6 @@ public abstract class AbstractBsonMapper implements ObjectMapper {
     }
 
     private ByteBuffer toByteBuffer(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] byteBuffer = new byte[512];
-        int nbByteRead /* = 0*/;
-        while ((nbByteRead = inputStream.read(byteBuffer)) != -1) {
-            // appends buffer
-            baos.write(byteBuffer, 0, nbByteRead);
-        }
-        return ByteBuffer.wrap(baos.toByteArray());
+        return ByteBuffer.wrap(inputStream.readAllBytes());
     }
 }
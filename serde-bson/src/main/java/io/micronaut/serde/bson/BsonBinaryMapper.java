@@ -15,10 +15,13 @@
  */
 package io.micronaut.serde.bson;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.Order;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.config.SerdeConfiguration;
+import io.micronaut.serde.support.util.BufferPool;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.bson.AbstractBsonWriter;
@@ -40,6 +43,11 @@ import java.util.Objects;
 @Singleton
 @Order(200) // lower precedence than BsonJsonMapper
 public final class BsonBinaryMapper extends AbstractBsonMapper {
+    private static final BufferPool<BasicOutputBuffer> BUFFERS = new BufferPool<>(
+        BasicOutputBuffer::new,
+        buffer -> buffer.getInternalBuffer().length,
+        buffer -> buffer.truncateToPosition(0)
+    );
 
     @Inject
     public BsonBinaryMapper(SerdeRegistry registry, SerdeConfiguration serdeConfiguration) {
@@ -60,19 +68,57 @@ public final class BsonBinaryMapper extends AbstractBsonMapper {
         return new BsonBinaryReader(byteBuffer);
     }
 
+    /**
+     * Writes the document into a pooled buffer, which is piped to the stream on flush. BSON
+     * documents are prefixed with their length, so a document can't be streamed before it is
+     * complete.
+     */
     @Override
     protected AbstractBsonWriter createBsonWriter(OutputStream os) {
         Objects.requireNonNull(os, "Output stream cannot be null");
-        return new BsonBinaryWriter(new BasicOutputBuffer()) {
+        BasicOutputBuffer buffer = BUFFERS.acquire();
+        return new BsonBinaryWriter(buffer) {
+            private boolean released;
+
             @Override
             public void flush() {
                 try {
-                    ((BasicOutputBuffer) getBsonOutput()).pipe(os);
+                    buffer.pipe(os);
+                    buffer.truncateToPosition(0);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
             }
+
+            @Override
+            public void close() {
+                super.close();
+                if (!released) {
+                    released = true;
+                    BUFFERS.release(buffer);
+                }
+            }
         };
     }
 
+    @Override
+    public <T> byte[] writeValueAsBytes(Argument<T> type, T object) throws IOException {
+        return writeValueAsBytes0(type, object);
+    }
+
+    @Override
+    public byte[] writeValueAsBytes(Object object) throws IOException {
+        return writeValueAsBytes0(null, object);
+    }
+
+    private <T> byte[] writeValueAsBytes0(@Nullable Argument<T> type, @Nullable T object) throws IOException {
+        BasicOutputBuffer buffer = BUFFERS.acquire();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writeValue(writer, type, object);
+            return buffer.toByteArray();
+        } finally {
+            BUFFERS.release(buffer);
+        }
+    }
+
 }
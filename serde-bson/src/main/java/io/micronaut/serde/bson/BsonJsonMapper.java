@@ -17,18 +17,28 @@ package io.micronaut.serde.bson;
 
 import io.micronaut.context.annotation.BootstrapContextCompatible;
 import io.micronaut.core.annotation.Order;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.ValueIterator;
 import io.micronaut.serde.config.SerdeConfiguration;
+import io.micronaut.serde.support.util.DecoderValueIterator;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.bson.AbstractBsonWriter;
 import org.bson.BsonReader;
+import org.bson.BsonType;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
 import org.bson.json.JsonWriterSettings;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.ByteBuffer;
@@ -70,7 +80,39 @@ public final class BsonJsonMapper extends AbstractBsonMapper {
 
     @Override
     protected BsonReader createBsonReader(ByteBuffer byteBuffer) {
-        return new JsonReader(new String(byteBuffer.array(), StandardCharsets.UTF_8));
+        if (byteBuffer.hasArray()) {
+            return new JsonReader(new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining(), StandardCharsets.UTF_8));
+        }
+        return new JsonReader(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+    }
+
+    /**
+     * Reads the elements of a top-level JSON array, or a single value.
+     */
+    @Override
+    public <T> ValueIterator<T> readValues(InputStream inputStream, Argument<T> type) throws IOException {
+        final Deserializer<? extends T> deserializer = decoderContext.findDeserializer(type).createSpecific(decoderContext, type);
+        final JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        final Closeable input = () -> {
+            reader.close();
+            inputStream.close();
+        };
+        final BsonReaderDecoder decoder = new BsonReaderDecoder(reader, limits());
+        if (reader.getCurrentBsonType() == BsonType.ARRAY) {
+            return DecoderValueIterator.ofArray(decoder.decodeArray(), deserializer, decoderContext, type, input);
+        }
+        return new DecoderValueIterator<>(deserializer, decoderContext, type, input) {
+            private boolean started;
+
+            @Override
+            protected Decoder nextValueDecoder() {
+                if (started) {
+                    return null;
+                }
+                started = true;
+                return decoder;
+            }
+        };
     }
 
     @Override
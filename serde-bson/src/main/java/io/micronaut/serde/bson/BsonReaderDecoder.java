@@ -17,17 +17,23 @@ package io.micronaut.serde.bson;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
 import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.exceptions.SerdeException;
-import io.micronaut.serde.support.AbstractDecoderPerStructureStreamDecoder;
 import io.micronaut.serde.support.AbstractStreamDecoder;
 import org.bson.BsonBinaryReader;
 import org.bson.BsonBinaryWriter;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.io.BasicOutputBuffer;
+import org.bson.io.BsonInput;
+import org.bson.io.BsonInputMark;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
@@ -45,12 +51,18 @@ import java.util.Deque;
  * @author Denis Stepanov
  */
 @Internal
-public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDecoder {
+public final class BsonReaderDecoder extends AbstractStreamDecoder {
+    private static final RawBsonDocumentCodec RAW_DOCUMENT_CODEC = new RawBsonDocumentCodec();
+
     private final BsonReader bsonReader;
     private final Deque<Context> contextStack;
 
     private BsonType currentBsonType;
     private TokenType currentToken;
+    /**
+     * The name of the current {@link TokenType#KEY}, once it was read.
+     */
+    private String currentName;
 
     public BsonReaderDecoder(BsonReader bsonReader, @NonNull RemainingLimits remainingLimits) {
         super(remainingLimits);
@@ -67,14 +79,6 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
         }
     }
 
-    private BsonReaderDecoder(BsonReaderDecoder parent, @NonNull RemainingLimits remainingLimits) {
-        super(parent, remainingLimits);
-        this.bsonReader = parent.bsonReader;
-        this.contextStack = parent.contextStack;
-        this.currentBsonType = parent.currentBsonType;
-        this.currentToken = parent.currentToken;
-    }
-
     private enum Context {
         ARRAY,
         DOCUMENT,
@@ -82,14 +86,14 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
     }
 
     @Override
-    protected void backFromChild(AbstractStreamDecoder child) throws IOException {
-        this.currentBsonType = ((BsonReaderDecoder) child).currentBsonType;
-        this.currentToken = ((BsonReaderDecoder) child).currentToken;
-        super.backFromChild(child);
+    public void finishStructure(boolean consumeLeftElements) throws IOException {
+        super.finishStructure(consumeLeftElements);
+        nextToken();
     }
 
     @Override
     protected void nextToken() {
+        currentName = null;
         if (currentToken != null) {
             switch (currentToken) {
                 case START_ARRAY -> {
@@ -180,7 +184,25 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
 
     @Override
     protected String getCurrentKey() {
-        return bsonReader.readName();
+        // the name can only be read once, but an unresolved key is read again by decodeKey
+        if (currentName == null) {
+            currentName = bsonReader.readName();
+        }
+        return currentName;
+    }
+
+    @Override
+    public int decodeKnownKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        int index = decodeKeyIndex(table, expectedIndex);
+        while (index == PropertyNameTable.UNRESOLVED) {
+            // the name was read, skip the value by its length
+            currentName = null;
+            bsonReader.skipValue();
+            currentBsonType = bsonReader.readBsonType();
+            currentToken = currentBsonType == BsonType.END_OF_DOCUMENT ? TokenType.END_OBJECT : TokenType.KEY;
+            index = decodeKeyIndex(table, expectedIndex);
+        }
+        return index;
     }
 
     @Override
@@ -205,11 +227,6 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
         };
     }
 
-    @Override
-    protected AbstractStreamDecoder createChildDecoder() throws SerdeException {
-        return new BsonReaderDecoder(this, childLimits());
-    }
-
     @Override
     protected String getString() {
         return bsonReader.readString();
@@ -288,6 +305,37 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
         }
     }
 
+    /**
+     * Skips the remaining elements of a document or array without reading their names. Documents
+     * and arrays are skipped by their length prefix.
+     */
+    @Override
+    protected void consumeLeftElements(TokenType currentToken) throws IOException {
+        Context ctx = contextStack.peek();
+        if (ctx == Context.ARRAY) {
+            while (this.currentToken != TokenType.END_ARRAY) {
+                bsonReader.skipValue();
+                currentBsonType = bsonReader.readBsonType();
+                this.currentToken = toToken(currentBsonType, ctx);
+            }
+            return;
+        }
+        if (ctx != Context.DOCUMENT) {
+            super.consumeLeftElements(currentToken);
+            return;
+        }
+        while (this.currentToken == TokenType.KEY) {
+            if (currentName == null) {
+                bsonReader.skipName();
+            } else {
+                currentName = null;
+            }
+            bsonReader.skipValue();
+            currentBsonType = bsonReader.readBsonType();
+            this.currentToken = currentBsonType == BsonType.END_OF_DOCUMENT ? TokenType.END_OBJECT : TokenType.KEY;
+        }
+    }
+
     @Override
     protected void skipChildren() {
         bsonReader.skipValue();
@@ -337,6 +385,61 @@ public final class BsonReaderDecoder extends AbstractDecoderPerStructureStreamDe
         return decodeCustom(parser -> ((BsonReaderDecoder) parser).bsonReader.readObjectId());
     }
 
+    /**
+     * Decodes the current document as a {@link RawBsonDocument}. With a binary reader, the
+     * bytes of the document are located by its length prefix and copied without being parsed.
+     *
+     * @return decoded value
+     * @throws IOException If the current value is not a document
+     * @since 2.12.0
+     */
+    public RawBsonDocument decodeRawDocument() throws IOException {
+        if (currentBsonType != BsonType.DOCUMENT) {
+            throw createDeserializationException("Cannot decode RawBsonDocument from: " + currentBsonType, null);
+        }
+        return decodeCustom(parser -> ((BsonReaderDecoder) parser).copyRawDocument());
+    }
+
+    /**
+     * Decodes the current document as a {@link LazyBson}, that is only deserialized when it is
+     * first accessed. Values that are not documents are deserialized immediately.
+     *
+     * @param deserializer   The deserializer of the document
+     * @param decoderContext The decoder context
+     * @param type           The type of the document
+     * @param <T>            The type of the document
+     * @return decoded value
+     * @throws IOException If the value could not be decoded
+     * @since 2.12.0
+     */
+    public <T> LazyBson<T> decodeLazy(Deserializer<? extends T> deserializer, Deserializer.DecoderContext decoderContext, Argument<T> type) throws IOException {
+        if (currentBsonType != BsonType.DOCUMENT) {
+            // only documents can be captured, other values are decoded right away
+            return LazyBson.of(deserializer.deserialize(this, decoderContext, type));
+        }
+        return new LazyBson<>(decodeRawDocument(), deserializer, decoderContext, type, ourLimits());
+    }
+
+    private RawBsonDocument copyRawDocument() {
+        RawBsonDocument document;
+        if (bsonReader instanceof BsonBinaryReader binaryReader) {
+            BsonInput input = binaryReader.getBsonInput();
+            BsonInputMark mark = input.getMark(Integer.MAX_VALUE);
+            byte[] bytes = new byte[input.readInt32()];
+            mark.reset();
+            input.readBytes(bytes);
+            mark.reset();
+            // let the reader skip the document by its length, so that its state stays consistent
+            bsonReader.skipValue();
+            document = new RawBsonDocument(bytes);
+        } else {
+            document = RAW_DOCUMENT_CODEC.decode(bsonReader, DecoderContext.builder().build());
+        }
+        currentToken = null;
+        currentBsonType = contextStack.peek() == Context.TOP ? BsonType.END_OF_DOCUMENT : null;
+        return document;
+    }
+
     public <T> T decodeCustom(org.bson.codecs.Decoder<T> decoder, DecoderContext context) throws IOException {
         currentToken = null;
         currentBsonType = null;
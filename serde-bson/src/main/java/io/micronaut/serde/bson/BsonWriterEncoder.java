@@ -29,6 +29,7 @@ import org.bson.types.ObjectId;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Objects;
 
 /**
  * Bson implementation of {@link Encoder}.
@@ -165,6 +166,50 @@ public final class BsonWriterEncoder extends LimitingStream implements Encoder {
         postEncodeValue();
     }
 
+    @Override
+    public void encodeIntArray(int @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeInt32(array[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
+    @Override
+    public void encodeLongArray(long @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeInt64(array[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
+    @Override
+    public void encodeFloatArray(float @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeDouble(array[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
+    @Override
+    public void encodeDoubleArray(double @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        bsonWriter.writeStartArray();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bsonWriter.writeDouble(array[i]);
+        }
+        bsonWriter.writeEndArray();
+        postEncodeValue();
+    }
+
     @Override
     public void encodeNull() {
         bsonWriter.writeNull();
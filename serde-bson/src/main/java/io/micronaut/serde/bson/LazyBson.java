@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.LimitingStream;
+import org.bson.BsonReader;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * A BSON document property that is only deserialized when it is first accessed. When decoded
+ * by {@link BsonReaderDecoder}, the document is kept as a {@link RawBsonDocument}, which is
+ * written back unchanged if the value was never accessed.
+ * <pre>{@code
+ * @Serdeable
+ * record Order(String id, LazyBson<Invoice> invoice) {
+ * }
+ * }</pre>
+ *
+ * @param <T> The document type
+ * @since 2.12.0
+ */
+public final class LazyBson<T> {
+    @Nullable
+    private final RawBsonDocument document;
+    @Nullable
+    private final Deserializer<? extends T> deserializer;
+    @Nullable
+    private final Deserializer.DecoderContext decoderContext;
+    @Nullable
+    private final Argument<T> type;
+    @Nullable
+    private final LimitingStream.RemainingLimits limits;
+    private volatile boolean decoded;
+    private T value;
+
+    LazyBson(@NonNull RawBsonDocument document,
+             @NonNull Deserializer<? extends T> deserializer,
+             @NonNull Deserializer.DecoderContext decoderContext,
+             @NonNull Argument<T> type,
+             @NonNull LimitingStream.RemainingLimits limits) {
+        this.document = document;
+        this.deserializer = deserializer;
+        this.decoderContext = decoderContext;
+        this.type = type;
+        this.limits = limits;
+    }
+
+    private LazyBson(@Nullable T value) {
+        this.document = null;
+        this.deserializer = null;
+        this.decoderContext = null;
+        this.type = null;
+        this.limits = null;
+        this.value = value;
+        this.decoded = true;
+    }
+
+    /**
+     * Create an already deserialized instance.
+     *
+     * @param value The value
+     * @param <T>   The document type
+     * @return The lazy value
+     */
+    @NonNull
+    public static <T> LazyBson<T> of(@Nullable T value) {
+        return new LazyBson<>(value);
+    }
+
+    /**
+     * Get the value, deserializing the document on the first call.
+     *
+     * @return The value
+     * @throws UncheckedIOException If the document could not be deserialized
+     */
+    @Nullable
+    public T get() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+                    value = decode();
+                    decoded = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return Whether the document was already deserialized
+     */
+    public boolean isDecoded() {
+        return decoded;
+    }
+
+    /**
+     * @return The undecoded document, or {@code null} if this instance was created from a value
+     */
+    @Nullable
+    public RawBsonDocument getDocument() {
+        return document;
+    }
+
+    private T decode() {
+        try (BsonReader reader = Objects.requireNonNull(document).asBsonReader()) {
+            return Objects.requireNonNull(deserializer).deserialize(new BsonReaderDecoder(reader, limits), decoderContext, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return decoded ? "LazyBson[" + value + "]" : "LazyBson[" + document + "]";
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.exceptions.IntrospectionException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.LimitingStream;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link Codec} implemented by the serializer and deserializer of a type. Each side is resolved
+ * on first use, so a type that only supports one direction still gets a codec.
+ *
+ * @param <T> The type
+ * @since 2.12.0
+ */
+@Internal
+final class SerdeCodec<T> implements Codec<T> {
+    private final Argument<T> type;
+    private final LimitingStream.RemainingLimits limits;
+    private final Serializer.EncoderContext encoderContext;
+    private final Deserializer.DecoderContext decoderContext;
+    // specific serdes are stateless, a racy initialization only resolves them twice
+    private volatile Serializer<? super T> serializer;
+    private volatile Deserializer<? extends T> deserializer;
+
+    SerdeCodec(SerdeRegistry registry, Argument<T> type, LimitingStream.RemainingLimits limits) {
+        this.type = type;
+        this.limits = limits;
+        this.encoderContext = registry.newEncoderContext(null);
+        this.decoderContext = registry.newDecoderContext(null);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext context) {
+        try {
+            serializer().serialize(new BsonWriterEncoder(writer, limits), encoderContext, type, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext context) {
+        try {
+            return deserializer().deserialize(new BsonReaderDecoder(reader, limits), decoderContext, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type.getType();
+    }
+
+    private Serializer<? super T> serializer() {
+        Serializer<? super T> serializer = this.serializer;
+        if (serializer == null) {
+            try {
+                serializer = encoderContext.findSerializer(type).createSpecific(encoderContext, type);
+            } catch (SerdeException | IntrospectionException e) {
+                throw new CodecConfigurationException("Can't encode " + type.getTypeName() + ": " + e.getMessage(), e);
+            }
+            this.serializer = serializer;
+        }
+        return serializer;
+    }
+
+    private Deserializer<? extends T> deserializer() {
+        Deserializer<? extends T> deserializer = this.deserializer;
+        if (deserializer == null) {
+            try {
+                deserializer = decoderContext.findDeserializer(type).createSpecific(decoderContext, type);
+            } catch (SerdeException | IntrospectionException e) {
+                throw new CodecConfigurationException("Can't decode " + type.getTypeName() + ": " + e.getMessage(), e);
+            }
+            this.deserializer = deserializer;
+        }
+        return deserializer;
+    }
+}
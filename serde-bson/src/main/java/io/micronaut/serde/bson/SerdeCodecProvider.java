@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.LimitingStream;
+import io.micronaut.serde.SerdeIntrospections;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.SerdeConfiguration;
+import jakarta.inject.Singleton;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * A MongoDB {@link CodecProvider} that encodes and decodes {@link Serdeable} types with the
+ * serializers and deserializers of the {@link SerdeRegistry}, directly against the
+ * {@link org.bson.BsonWriter} and {@link org.bson.BsonReader} of the driver, without going
+ * through an intermediate {@code byte[]} or {@link org.bson.RawBsonDocument}.
+ * <p>
+ * Register it with the driver, ahead of the default providers:
+ * <pre>{@code
+ * CodecRegistry codecRegistry = CodecRegistries.fromRegistries(
+ *     CodecRegistries.fromProviders(serdeCodecProvider),
+ *     MongoClientSettings.getDefaultCodecRegistry()
+ * );
+ * }</pre>
+ * Types that are not {@link Serdeable} are left to the other providers of the registry.
+ *
+ * @since 2.12.0
+ */
+@Singleton
+public final class SerdeCodecProvider implements CodecProvider {
+    private final SerdeRegistry registry;
+    private final SerdeIntrospections introspections;
+    private final LimitingStream.RemainingLimits limits;
+
+    public SerdeCodecProvider(SerdeRegistry registry, SerdeIntrospections introspections, SerdeConfiguration serdeConfiguration) {
+        this.registry = registry;
+        this.introspections = introspections;
+        this.limits = LimitingStream.limitsFromConfiguration(serdeConfiguration);
+    }
+
+    @Override
+    @Nullable
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry codecRegistry) {
+        BeanIntrospection<T> introspection = introspections.getBeanIntrospector().findIntrospection(clazz).orElse(null);
+        if (introspection == null
+            || !introspection.hasStereotype(Serdeable.Serializable.class) && !introspection.hasStereotype(Serdeable.Deserializable.class)) {
+            return null;
+        }
+        return getCodec(Argument.of(clazz));
+    }
+
+    /**
+     * Get the codec of the given type. Unlike {@link #get(Class, CodecRegistry)}, this also
+     * supports generic types and types that are not {@link Serdeable}, e.g. with a custom serde.
+     * The serializer and deserializer are resolved on first use, and encoding or decoding throws
+     * a {@link CodecConfigurationException} if the type doesn't support that direction.
+     *
+     * @param type The type
+     * @param <T>  The type
+     * @return The codec
+     */
+    @NonNull
+    public <T> Codec<T> getCodec(@NonNull Argument<T> type) {
+        return new SerdeCodec<>(registry, type, limits);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson.custom;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.DelegatingDecoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.bson.BsonReaderDecoder;
+import io.micronaut.serde.bson.BsonWriterEncoder;
+import io.micronaut.serde.bson.LazyBson;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.util.CustomizableDeserializer;
+import io.micronaut.serde.util.CustomizableSerializer;
+import jakarta.inject.Singleton;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.RawBsonDocumentCodec;
+
+import java.io.IOException;
+
+/**
+ * Serde for {@link LazyBson}. Documents read by {@link BsonReaderDecoder} are captured as raw
+ * bytes, and written back as is when they were never accessed.
+ *
+ * @param <T> The document type
+ * @since 2.12.0
+ */
+@Singleton
+@Internal
+final class LazyBsonSerde<T> implements CustomizableSerializer<LazyBson<T>>, CustomizableDeserializer<LazyBson<T>> {
+
+    private static final RawBsonDocumentCodec CODEC = new RawBsonDocumentCodec();
+    private static final org.bson.codecs.EncoderContext DEFAULT_ENCODER_CONTEXT = org.bson.codecs.EncoderContext.builder().build();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Serializer<LazyBson<T>> createSpecific(EncoderContext encoderContext, Argument<? extends LazyBson<T>> type) throws SerdeException {
+        final Argument<T> generic = (Argument<T>) type.getFirstTypeVariable().orElse(null);
+        if (generic == null) {
+            throw new SerdeException("Serializing raw LazyBson is not supported for type: " + type);
+        }
+        final Serializer<? super T> serializer = encoderContext.findSerializer(generic).createSpecific(encoderContext, generic);
+        return new Serializer<>() {
+            @Override
+            public void serialize(Encoder encoder, EncoderContext context, Argument<? extends LazyBson<T>> type, LazyBson<T> value) throws IOException {
+                RawBsonDocument document = value.getDocument();
+                if (encoder instanceof BsonWriterEncoder bson && document != null && !value.isDecoded()) {
+                    CODEC.encode(bson.getBsonWriter(), document, DEFAULT_ENCODER_CONTEXT);
+                    return;
+                }
+                T o = value.get();
+                if (o == null) {
+                    encoder.encodeNull();
+                } else {
+                    serializer.serialize(encoder, context, generic, o);
+                }
+            }
+
+            @Override
+            public boolean isEmpty(EncoderContext context, LazyBson<T> value) {
+                return value == null;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Deserializer<LazyBson<T>> createSpecific(DecoderContext context, Argument<? super LazyBson<T>> type) throws SerdeException {
+        final Argument<T> generic = (Argument<T>) type.getFirstTypeVariable().orElse(null);
+        if (generic == null) {
+            throw new SerdeException("Cannot deserialize raw LazyBson");
+        }
+        final Deserializer<? extends T> deserializer = context.findDeserializer(generic).createSpecific(context, generic);
+        return new Deserializer<>() {
+            @Override
+            public LazyBson<T> deserialize(Decoder decoder, DecoderContext context, Argument<? super LazyBson<T>> type) throws IOException {
+                if (decoder instanceof DelegatingDecoder delegating) {
+                    decoder = delegating.delegateForDecodeValue();
+                }
+                if (decoder instanceof BsonReaderDecoder bson) {
+                    return bson.decodeLazy(deserializer, context, generic);
+                }
+                return LazyBson.of(deserializer.deserialize(decoder, context, generic));
+            }
+
+            @Override
+            public LazyBson<T> deserializeNullable(@NonNull Decoder decoder, @NonNull DecoderContext context, @NonNull Argument<? super LazyBson<T>> type) throws IOException {
+                if (decoder.decodeNull()) {
+                    return null;
+                }
+                return deserialize(decoder, context, type);
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.bson.custom;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.bson.BsonReaderDecoder;
+import io.micronaut.serde.bson.BsonWriterEncoder;
+import jakarta.inject.Singleton;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.RawBsonDocumentCodec;
+
+import java.io.IOException;
+
+/**
+ * Serde for {@link RawBsonDocument}, which copies the bytes of the document without parsing it.
+ *
+ * @since 2.12.0
+ */
+@Singleton
+@Internal
+@Order(9999) // Avoid being chosen for Map, but take precedence over the BsonDocument codec
+final class RawBsonDocumentSerde extends AbstractBsonSerde<RawBsonDocument> {
+
+    private static final RawBsonDocumentCodec CODEC = new RawBsonDocumentCodec();
+    private static final org.bson.codecs.EncoderContext DEFAULT_ENCODER_CONTEXT = org.bson.codecs.EncoderContext.builder().build();
+
+    @Override
+    protected RawBsonDocument doDeserialize(BsonReaderDecoder decoder, DecoderContext decoderContext, Argument<? super RawBsonDocument> type) throws IOException {
+        return decoder.decodeRawDocument();
+    }
+
+    @Override
+    protected void doSerialize(BsonWriterEncoder encoder, EncoderContext context, RawBsonDocument value, Argument<? extends RawBsonDocument> type) {
+        CODEC.encode(encoder.getBsonWriter(), value, DEFAULT_ENCODER_CONTEXT);
+    }
+}
@@ -3,6 +3,7 @@ package io.micronaut.serde.bson
 
 import io.micronaut.serde.Decoder
 import io.micronaut.serde.LimitingStream
+import io.micronaut.serde.PropertyNameTable
 import io.micronaut.serde.exceptions.SerdeException
 import org.bson.json.JsonReader
 import org.intellij.lang.annotations.Language
@@ -188,4 +189,32 @@ class BsonReaderDecoderJsonSpec extends Specification {
         map.get("intKey") == null
         map.get("stringKey") == null
     }
+
+    def 'known key projection skips unwanted values'() {
+        given:
+        def table = PropertyNameTable.of(['a', 'b'])
+        def object = createDecoder('{"x":{"y":[1,{"z":2}]},"a":1,"w":[3],"q":"s","b":4,"v":5}').decodeObject()
+
+        expect:
+        object.decodeKnownKeyIndex(table, 0) == 0
+        object.decodeInt() == 1
+        object.decodeKnownKeyIndex(table, 1) == 1
+        object.decodeInt() == 4
+        object.decodeKnownKeyIndex(table, 2) == PropertyNameTable.NO_MORE_KEYS
+        object.finishStructure()
+    }
+
+    def 'unresolved keys can still be decoded'() {
+        given:
+        def table = PropertyNameTable.of(['a'])
+        def object = createDecoder('{"x":1,"a":2}').decodeObject()
+
+        expect:
+        object.decodeKeyIndex(table, 0) == PropertyNameTable.UNRESOLVED
+        object.decodeKey() == 'x'
+        object.decodeInt() == 1
+        object.decodeKeyIndex(table, 0) == 0
+        object.decodeInt() == 2
+        object.finishStructure()
+    }
 }
@@ -1,5 +1,6 @@
 package io.micronaut.serde.bson
 
+import io.micronaut.core.type.Argument
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
 import org.bson.BsonBinary
@@ -16,6 +17,8 @@ import org.bson.types.Decimal128
 import org.bson.types.ObjectId
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+
 @MicronautTest
 class BsonSpec extends Specification implements BsonJsonSpec, BsonBinarySpec {
 
@@ -143,4 +146,45 @@ class BsonSpec extends Specification implements BsonJsonSpec, BsonBinarySpec {
         value.normal() == normal.data
         value.userDefined() == userDefined.data
     }
+
+    def "read from nio buffers"() {
+        given:
+        def objectId = new ObjectId()
+        def document = new BsonDocument()
+        document.put("objectId", new BsonObjectId(objectId))
+        def bytes = writeToByteArray(document)
+        def direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+        def padded = new byte[bytes.length + 3]
+        System.arraycopy(bytes, 0, padded, 2, bytes.length)
+        def slice = ByteBuffer.wrap(padded, 2, bytes.length)
+
+        expect:
+        bsonBinaryMapper.readValue(direct, Argument.of(CustomTypes)).objectId == objectId
+        direct.position() == 0
+        bsonBinaryMapper.readValue(slice, Argument.of(CustomTypes)).objectId == objectId
+        slice.position() == 2
+    }
+
+    def "pooled output buffers are reset between writes"() {
+        given:
+        def large = new BsonDocument()
+        large.put("decimal128", new BsonDecimal128(new Decimal128(new BigDecimal("1.5"))))
+        large.put("objectId", new BsonObjectId(new ObjectId()))
+        def small = new BsonDocument()
+        small.put("objectId", new BsonObjectId(new ObjectId()))
+        def largeValue = encodeAsBinaryDecodeAsObject(large, CustomTypes)
+        def smallValue = encodeAsBinaryDecodeAsObject(small, CustomTypes)
+
+        when:
+        def largeBytes = bsonBinaryMapper.writeValueAsBytes(largeValue)
+        def smallBytes = bsonBinaryMapper.writeValueAsBytes(smallValue)
+        def stream = new ByteArrayOutputStream()
+        bsonBinaryMapper.writeValue(stream, smallValue)
+
+        then:
+        smallBytes.length < largeBytes.length
+        stream.toByteArray() == smallBytes
+        bsonBinaryMapper.readValue(smallBytes, Argument.of(CustomTypes)).objectId == smallValue.objectId
+        bsonBinaryMapper.readValue(largeBytes, Argument.of(CustomTypes)).decimal128 == largeValue.decimal128
+    }
 }
@@ -0,0 +1,42 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.exceptions.SerdeException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonString
+import spock.lang.Specification
+
+@MicronautTest
+class BsonUnknownPropertySpec extends Specification implements BsonBinarySpec {
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    @Inject
+    BsonJsonMapper bsonJsonMapper
+
+    def "an unresolved key is reported by the binary reader"() {
+        given:
+        def document = new BsonDocument("name", new BsonString("a"))
+                .append("unknown", new BsonInt32(1))
+
+        when:
+        bsonBinaryMapper.readValue(writeToByteArray(document), Argument.of(StrictTag))
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.startsWith("Unknown property [unknown]")
+    }
+
+    def "an unresolved key is reported by the json reader"() {
+        when:
+        bsonJsonMapper.readValue('{"unknown": 1, "name": "a"}', Argument.of(StrictTag))
+
+        then:
+        def e = thrown(SerdeException)
+        e.message.startsWith("Unknown property [unknown]")
+    }
+}
@@ -2,8 +2,12 @@ package io.micronaut.serde.bson
 
 import io.micronaut.core.type.Argument
 import io.micronaut.serde.LimitingStream
+import org.bson.BsonArray
 import org.bson.BsonDocument
 import org.bson.BsonDocumentWriter
+import org.bson.BsonDouble
+import org.bson.BsonInt32
+import org.bson.BsonInt64
 import spock.lang.Specification
 
 class BsonWriterEncoderSpec extends Specification {
@@ -31,4 +35,28 @@ class BsonWriterEncoderSpec extends Specification {
         then:
         array.currentPath() == '->baz->1'
     }
+
+    def 'bulk primitive arrays'() {
+        given:
+        def document = new BsonDocument()
+        def encoder = new BsonWriterEncoder(new BsonDocumentWriter(document), LimitingStream.DEFAULT_LIMITS)
+
+        when:
+        def outer = encoder.encodeObject(Argument.VOID)
+        outer.encodeKey('ints')
+        outer.encodeIntArray([1, 2, 3, 4] as int[], 1, 2)
+        outer.encodeKey('longs')
+        outer.encodeLongArray([5L] as long[], 0, 1)
+        outer.encodeKey('doubles')
+        outer.encodeDoubleArray([1.5d, 2.5d] as double[], 0, 2)
+        outer.encodeKey('after')
+        outer.encodeString('x')
+        outer.finishStructure()
+
+        then:
+        document.getArray('ints') == new BsonArray([new BsonInt32(2), new BsonInt32(3)])
+        document.getArray('longs') == new BsonArray([new BsonInt64(5)])
+        document.getArray('doubles') == new BsonArray([new BsonDouble(1.5), new BsonDouble(2.5)])
+        document.getString('after').value == 'x'
+    }
 }
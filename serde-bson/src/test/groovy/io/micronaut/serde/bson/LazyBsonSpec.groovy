@@ -0,0 +1,63 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.bson.BsonArray
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonString
+import org.bson.RawBsonDocument
+import org.bson.codecs.BsonDocumentCodec
+import spock.lang.Specification
+
+@MicronautTest
+class LazyBsonSpec extends Specification implements BsonBinarySpec {
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    def "nested documents are decoded on first access"() {
+        given:
+        def address = new Address("Flat 1", "Main Street", "Springfield", "SP1 1AA")
+        def metadata = new BsonDocument("source", new BsonString("import")).append("version", new BsonInt32(3))
+        def bytes = bsonBinaryMapper.writeValueAsBytes(new LazyOrder("o1", LazyBson.of(address), new RawBsonDocument(metadata, new BsonDocumentCodec())))
+
+        when:
+        def order = bsonBinaryMapper.readValue(bytes, Argument.of(LazyOrder))
+
+        then:
+        order.id() == "o1"
+        !order.address().isDecoded()
+        order.metadata() == metadata
+        order.address().get() == address
+        order.address().isDecoded()
+    }
+
+    def "untouched documents are written back as is"() {
+        given:
+        def document = new BsonDocument("id", new BsonString("o2"))
+                .append("address", new BsonDocument("street", new BsonString("High Street")).append("extra", new BsonInt32(1)))
+                .append("metadata", new BsonDocument())
+        def bytes = writeToByteArray(document)
+
+        when:
+        def order = bsonBinaryMapper.readValue(bytes, Argument.of(LazyOrder))
+
+        then:
+        bsonBinaryMapper.writeValueAsBytes(order) == bytes
+    }
+
+    def "unknown nested values are skipped"() {
+        given:
+        def document = new BsonDocument("unknown", new BsonDocument("a", new BsonArray([new BsonDocument("b", new BsonInt32(1))])))
+                .append("street", new BsonString("High Street"))
+                .append("more", new BsonArray([new BsonString("x")]))
+
+        when:
+        def address = bsonBinaryMapper.readValue(writeToByteArray(document), Argument.of(Address))
+
+        then:
+        address.street == "High Street"
+    }
+}
@@ -0,0 +1,105 @@
+package io.micronaut.serde.bson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import org.bson.BsonBinaryReader
+import org.bson.BsonBinaryWriter
+import org.bson.BsonDocument
+import org.bson.BsonDocumentReader
+import org.bson.BsonDocumentWriter
+import org.bson.BsonString
+import org.bson.codecs.BsonValueCodecProvider
+import org.bson.codecs.DecoderContext
+import org.bson.codecs.EncoderContext
+import org.bson.codecs.configuration.CodecConfigurationException
+import org.bson.codecs.configuration.CodecRegistries
+import org.bson.io.BasicOutputBuffer
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+@MicronautTest
+class SerdeCodecProviderSpec extends Specification {
+
+    @Inject
+    SerdeCodecProvider codecProvider
+
+    @Inject
+    BsonBinaryMapper bsonBinaryMapper
+
+    def "serdeable types are encoded against the document writer"() {
+        given:
+        def codecRegistry = CodecRegistries.fromProviders(codecProvider, new BsonValueCodecProvider())
+        def codec = codecRegistry.get(Address)
+        def address = new Address("Flat 1", "Main Street", "Springfield", "SP1 1AA")
+        def document = new BsonDocument()
+
+        when:
+        codec.encode(new BsonDocumentWriter(document), address, EncoderContext.builder().build())
+
+        then:
+        document.getString("street") == new BsonString("Main Street")
+        document.getString("postcode") == new BsonString("SP1 1AA")
+        codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build()) == address
+    }
+
+    def "binary round trip matches the mapper"() {
+        given:
+        def codec = codecProvider.getCodec(Argument.of(Address))
+        def address = new Address("Flat 1", "Main Street", "Springfield", "SP1 1AA")
+        def buffer = new BasicOutputBuffer()
+
+        when:
+        codec.encode(new BsonBinaryWriter(buffer), address, EncoderContext.builder().build())
+        def bytes = buffer.toByteArray()
+
+        then:
+        bytes == bsonBinaryMapper.writeValueAsBytes(address)
+        codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build()) == address
+    }
+
+    def "serializable only types get a codec that only encodes"() {
+        given:
+        def codecRegistry = CodecRegistries.fromProviders(codecProvider, new BsonValueCodecProvider())
+        def codec = codecRegistry.get(Label)
+        def document = new BsonDocument()
+
+        when:
+        codec.encode(new BsonDocumentWriter(document), new Label("sale"), EncoderContext.builder().build())
+
+        then:
+        document.getString("name") == new BsonString("sale")
+
+        when:
+        codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build())
+
+        then:
+        thrown(CodecConfigurationException)
+    }
+
+    def "deserializable only types get a codec that only decodes"() {
+        given:
+        def codecRegistry = CodecRegistries.fromProviders(codecProvider, new BsonValueCodecProvider())
+        def codec = codecRegistry.get(Tag)
+        def document = new BsonDocument("name", new BsonString("new"))
+
+        expect:
+        codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build()) == new Tag("new")
+
+        when:
+        codec.encode(new BsonDocumentWriter(new BsonDocument()), new Tag("new"), EncoderContext.builder().build())
+
+        then:
+        thrown(CodecConfigurationException)
+    }
+
+    def "other types are left to the other providers"() {
+        given:
+        def codecRegistry = CodecRegistries.fromProviders(codecProvider, new BsonValueCodecProvider())
+
+        expect:
+        codecProvider.get(String, codecRegistry) == null
+        codecRegistry.get(BsonString) != null
+    }
+}
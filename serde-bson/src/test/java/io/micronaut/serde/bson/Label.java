@@ -0,0 +1,7 @@
+package io.micronaut.serde.bson;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable.Serializable
+public record Label(String name) {
+}
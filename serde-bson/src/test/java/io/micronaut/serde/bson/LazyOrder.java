@@ -0,0 +1,8 @@
+package io.micronaut.serde.bson;
+
+import io.micronaut.serde.annotation.Serdeable;
+import org.bson.RawBsonDocument;
+
+@Serdeable
+public record LazyOrder(String id, LazyBson<Address> address, RawBsonDocument metadata) {
+}
@@ -0,0 +1,19 @@
+package io.micronaut.serde.bson;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class StrictTag {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
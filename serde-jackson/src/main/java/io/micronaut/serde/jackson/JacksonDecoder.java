@@ -17,6 +17,8 @@ package io.micronaut.serde.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
@@ -24,19 +26,25 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.LimitingStream;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
-import io.micronaut.serde.support.util.JsonNodeDecoder;
+import io.micronaut.serde.support.util.InstancePool;
+import io.micronaut.serde.support.util.TokenBufferDecoder;
 import io.micronaut.serde.util.BinaryCodecUtil;
+import io.micronaut.serde.util.PrimitiveArrayCodecUtil;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Implementation of the {@link Decoder} interface for Jackson.
@@ -55,9 +63,21 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
      * encountered, we enter the slow parse path.
      */
     private static final long LONG_CANARY = 0xff1234567890abcdL;
+    /**
+     * Names of a {@link PropertyNameTable} as {@link SerializedString}s, which jackson can match
+     * against the raw input in {@link JsonParser#nextFieldName(SerializableString)}.
+     */
+    private static final Function<PropertyNameTable, SerializableString[]> SERIALIZED_NAMES = table -> {
+        SerializableString[] names = new SerializableString[table.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new SerializedString(table.getName(i));
+        }
+        return names;
+    };
+    private static final InstancePool<JacksonDecoder> POOL = new InstancePool<>();
 
     @Internal
-    private final JsonParser parser;
+    private JsonParser parser;
 
     @Nullable
     private JsonToken peekedToken;
@@ -65,6 +85,10 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
 
     private JacksonDecoder(JsonParser parser, RemainingLimits remainingLimits) throws IOException {
         super(remainingLimits);
+        start(parser);
+    }
+
+    private void start(JsonParser parser) throws IOException {
         this.parser = parser;
         if (!parser.hasCurrentToken()) {
             peekedToken = parser.nextToken();
@@ -80,6 +104,44 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
         return new JacksonDecoder(parser, remainingLimits);
     }
 
+    /**
+     * Like {@link #create(JsonParser, RemainingLimits)}, but reuses a pooled decoder if one is
+     * available. The decoder must be given back using {@link #release(Decoder)} once the value
+     * has been read, and must not be retained after that.
+     *
+     * @param parser          The parser
+     * @param remainingLimits The limits
+     * @return The decoder
+     * @throws IOException If the parser has no input
+     * @since 2.12.0
+     */
+    @Internal
+    public static Decoder acquire(JsonParser parser, RemainingLimits remainingLimits) throws IOException {
+        JacksonDecoder decoder = POOL.acquire();
+        if (decoder == null) {
+            return new JacksonDecoder(parser, remainingLimits);
+        }
+        decoder.resetLimits(remainingLimits);
+        decoder.currentlyUnwrappingArray = false;
+        decoder.start(parser);
+        return decoder;
+    }
+
+    /**
+     * Give a decoder obtained from {@link #acquire(JsonParser, RemainingLimits)} back to the pool.
+     *
+     * @param decoder The decoder
+     * @since 2.12.0
+     */
+    @Internal
+    public static void release(Decoder decoder) {
+        if (decoder instanceof JacksonDecoder jacksonDecoder) {
+            jacksonDecoder.parser = null;
+            jacksonDecoder.peekedToken = null;
+            POOL.release(jacksonDecoder);
+        }
+    }
+
     @Override
     public IOException createDeserializationException(String message, Object invalidValue) {
         if (invalidValue != null) {
@@ -104,12 +166,14 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
             if (!consumeLeftElements) {
                 throw new IllegalStateException("Not all elements have been consumed yet");
             }
-            do {
-                t = nextToken();
-                if (t == JsonToken.START_ARRAY || t == JsonToken.START_OBJECT) {
+            // skip straight on the parser: field names and scalars are never materialized, and
+            // nested structures are skipped by the parser in one call
+            while (t != JsonToken.END_OBJECT && t != JsonToken.END_ARRAY && t != null) {
+                if (t.isStructStart()) {
                     parser.skipChildren();
                 }
-            } while (t != JsonToken.END_OBJECT && t != JsonToken.END_ARRAY && t != null);
+                t = parser.nextToken();
+            }
         }
         decreaseDepth();
     }
@@ -149,6 +213,61 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
         }
     }
 
+    @Override
+    public int decodeKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        if (peekedToken != null) {
+            if (peekedToken == JsonToken.END_OBJECT) {
+                return PropertyNameTable.NO_MORE_KEYS;
+            }
+            String fieldName = parser.currentName();
+            if (fieldName == null) {
+                return PropertyNameTable.UNRESOLVED;
+            }
+            int index = table.indexOf(fieldName);
+            if (index != -1) {
+                peekedToken = null;
+                return index;
+            }
+            return PropertyNameTable.UNRESOLVED;
+        }
+        String fieldName;
+        if (expectedIndex >= 0 && expectedIndex < table.size()) {
+            if (parser.nextFieldName(table.getEncoded(SERIALIZED_NAMES)[expectedIndex])) {
+                return expectedIndex;
+            }
+            fieldName = parser.currentToken() == JsonToken.FIELD_NAME ? parser.currentName() : null;
+        } else {
+            fieldName = parser.nextFieldName();
+        }
+        if (fieldName == null) {
+            peekedToken = parser.currentToken();
+            return PropertyNameTable.NO_MORE_KEYS;
+        }
+        int index = table.indexOf(fieldName);
+        if (index == -1) {
+            // leave the key for decodeKey
+            peekedToken = JsonToken.FIELD_NAME;
+            return PropertyNameTable.UNRESOLVED;
+        }
+        return index;
+    }
+
+    @Override
+    public int decodeKnownKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        int index = decodeKeyIndex(table, expectedIndex);
+        while (index == PropertyNameTable.UNRESOLVED) {
+            if (peekedToken != JsonToken.FIELD_NAME || parser.currentToken() != JsonToken.FIELD_NAME) {
+                return Decoder.super.decodeKnownKeyIndex(table, expectedIndex);
+            }
+            // skip the value of the unwanted key straight on the parser
+            peekedToken = null;
+            parser.nextToken();
+            parser.skipChildren();
+            index = decodeKeyIndex(table, expectedIndex);
+        }
+        return index;
+    }
+
     @NonNull
     @Override
     public JacksonDecoder decodeArray(Argument<?> type) throws IOException {
@@ -800,6 +919,129 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
         };
     }
 
+    @Override
+    public long decodeBinary(@NonNull OutputStream out) throws IOException {
+        return switch (peekToken()) {
+            case VALUE_STRING -> {
+                nextToken();
+                yield parser.readBinaryValue(out);
+            }
+            case START_ARRAY -> BinaryCodecUtil.decodeFromArray(this, out);
+            default -> throw unexpectedToken(JsonToken.START_ARRAY, nextToken());
+        };
+    }
+
+    @Override
+    public int @NonNull [] decodeIntArray() throws IOException {
+        beginPrimitiveArray();
+        int[] buffer = new int[16];
+        int size = 0;
+        while (true) {
+            int value = parser.nextIntValue(INT_CANARY);
+            if (value == INT_CANARY) {
+                JsonToken t = parser.currentToken();
+                if (t == JsonToken.END_ARRAY) {
+                    break;
+                }
+                Integer slow = decodeIntSlow();
+                value = slow == null ? 0 : slow;
+            }
+            if (size == buffer.length) {
+                buffer = PrimitiveArrayCodecUtil.grow(buffer);
+            }
+            buffer[size++] = value;
+        }
+        decreaseDepth();
+        return Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    public long @NonNull [] decodeLongArray() throws IOException {
+        beginPrimitiveArray();
+        long[] buffer = new long[16];
+        int size = 0;
+        while (true) {
+            long value = parser.nextLongValue(LONG_CANARY);
+            if (value == LONG_CANARY) {
+                JsonToken t = parser.currentToken();
+                if (t == JsonToken.END_ARRAY) {
+                    break;
+                }
+                Long slow = decodeLongSlow();
+                value = slow == null ? 0 : slow;
+            }
+            if (size == buffer.length) {
+                buffer = PrimitiveArrayCodecUtil.grow(buffer);
+            }
+            buffer[size++] = value;
+        }
+        decreaseDepth();
+        return Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    public float @NonNull [] decodeFloatArray() throws IOException {
+        beginPrimitiveArray();
+        float[] buffer = new float[16];
+        int size = 0;
+        while (true) {
+            JsonToken t = parser.nextToken();
+            float value;
+            if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT) {
+                value = parser.getFloatValue();
+            } else if (t == JsonToken.END_ARRAY) {
+                break;
+            } else {
+                peekedToken = t;
+                Float slow = decodeFloatNullable();
+                value = slow == null ? 0 : slow;
+            }
+            if (size == buffer.length) {
+                buffer = PrimitiveArrayCodecUtil.grow(buffer);
+            }
+            buffer[size++] = value;
+        }
+        decreaseDepth();
+        return Arrays.copyOf(buffer, size);
+    }
+
+    @Override
+    public double @NonNull [] decodeDoubleArray() throws IOException {
+        beginPrimitiveArray();
+        double[] buffer = new double[16];
+        int size = 0;
+        while (true) {
+            JsonToken t = parser.nextToken();
+            double value;
+            if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT) {
+                value = parser.getDoubleValue();
+            } else if (t == JsonToken.END_ARRAY) {
+                break;
+            } else {
+                Double slow = decodeDoubleSlow(t);
+                value = slow == null ? 0 : slow;
+            }
+            if (size == buffer.length) {
+                buffer = PrimitiveArrayCodecUtil.grow(buffer);
+            }
+            buffer[size++] = value;
+        }
+        decreaseDepth();
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Consume the start of an array whose elements are then read straight from the parser, so
+     * that {@link #peekedToken} is always {@code null} inside the array.
+     */
+    private void beginPrimitiveArray() throws IOException {
+        JsonToken t = nextToken();
+        if (t != JsonToken.START_ARRAY) {
+            throw unexpectedToken(JsonToken.START_ARRAY, t);
+        }
+        increaseDepth();
+    }
+
     @Override
     public boolean decodeNull() throws IOException {
         if (peekToken() == JsonToken.VALUE_NULL) {
@@ -852,8 +1094,50 @@ public final class JacksonDecoder extends LimitingStream implements Decoder {
 
     @Override
     public Decoder decodeBuffer() throws IOException {
-        JsonNode node = decodeNode();
-        return JsonNodeDecoder.create(node, ourLimits());
+        // iterative approach to avoid stack overflows
+        JsonToken first = peekToken();
+        if (first == JsonToken.END_OBJECT || first == JsonToken.END_ARRAY || first == JsonToken.FIELD_NAME) {
+            throw createDeserializationException("Unexpected token " + first + ", expected value", null);
+        }
+        TokenBufferDecoder.Builder buffer = TokenBufferDecoder.builder();
+        int depth = 0;
+        do {
+            JsonToken t = nextToken();
+            if (t == null) {
+                throw new EOFException("Unexpected end of input");
+            }
+            switch (t) {
+                case START_OBJECT -> {
+                    increaseDepth();
+                    depth++;
+                    buffer.startObject();
+                }
+                case START_ARRAY -> {
+                    increaseDepth();
+                    depth++;
+                    buffer.startArray();
+                }
+                case END_OBJECT -> {
+                    decreaseDepth();
+                    depth--;
+                    buffer.endObject();
+                }
+                case END_ARRAY -> {
+                    decreaseDepth();
+                    depth--;
+                    buffer.endArray();
+                }
+                case FIELD_NAME -> buffer.key(parser.currentName());
+                case VALUE_STRING -> buffer.string(parser.getText());
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> buffer.number(parser.getNumberValue());
+                case VALUE_TRUE -> buffer.bool(true);
+                case VALUE_FALSE -> buffer.bool(false);
+                case VALUE_NULL -> buffer.nullValue();
+                default ->
+                    throw createDeserializationException("Unexpected token " + t + ", expected value", null);
+            }
+        } while (depth > 0);
+        return buffer.build(ourLimits());
     }
 
     @NonNull
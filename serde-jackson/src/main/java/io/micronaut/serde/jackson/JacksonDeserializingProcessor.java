@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.LimitingStream;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.DeserializingProcessor;
+import org.reactivestreams.Processor;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Typed reactive parser using the jackson non-blocking parser. The tokens of each value are
+ * recorded by a {@link JacksonTokenFeed} as they become available, and the value is
+ * deserialized as soon as it is complete.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+@Internal
+final class JacksonDeserializingProcessor<T> extends DeserializingProcessor<T> {
+    private final JacksonTokenFeed feed;
+
+    JacksonDeserializingProcessor(Consumer<Processor<byte[], T>> onSubscribe,
+                                  Deserializer<? extends T> deserializer,
+                                  Deserializer.DecoderContext decoderContext,
+                                  Argument<T> type,
+                                  JsonParser parser,
+                                  boolean streamArray,
+                                  LimitingStream.RemainingLimits limits) {
+        super(onSubscribe, deserializer, decoderContext, type);
+        this.feed = new JacksonTokenFeed(parser, streamArray, limits);
+    }
+
+    @Override
+    protected void spread(byte[] bytes, Collection<T> out) throws IOException {
+        feed.feed(bytes, 0, bytes.length);
+        drain(out);
+    }
+
+    @Override
+    protected void complete(Collection<T> out) throws IOException {
+        feed.endOfInput();
+        drain(out);
+        feed.close();
+        if (feed.isIncomplete()) {
+            throw new SerdeException("Unexpected end of input");
+        }
+    }
+
+    private void drain(Collection<T> out) throws IOException {
+        Decoder decoder;
+        while ((decoder = feed.nextValue()) != null) {
+            emit(decoder, out);
+        }
+    }
+}
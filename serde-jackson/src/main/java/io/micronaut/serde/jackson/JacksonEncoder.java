@@ -17,24 +17,37 @@ package io.micronaut.serde.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.serde.EncodedKey;
 import io.micronaut.serde.Encoder;
 import io.micronaut.serde.LimitingStream;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.InstancePool;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Implementation of the {@link io.micronaut.serde.Encoder} interface for Jackson.
  */
 public abstract class JacksonEncoder extends LimitingStream implements Encoder {
-    protected final JsonGenerator generator;
+    /**
+     * {@link SerializedString} caches the quoted UTF-8 and char representations of the key.
+     */
+    private static final Function<String, SerializableString> SERIALIZED_KEY = SerializedString::new;
+    private static final InstancePool<ReuseChildEncoder> POOL = new InstancePool<>();
+
+    private JsonGenerator generator;
     @Nullable
     private final JacksonEncoder parent;
 
@@ -71,6 +84,43 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
         return new ReuseChildEncoder(generator, remainingLimits);
     }
 
+    /**
+     * Like {@link #create(JsonGenerator, RemainingLimits)}, but reuses a pooled encoder if one is
+     * available. The encoder must be given back using {@link #release(Encoder)} once the value
+     * has been written, and must not be retained after that.
+     *
+     * @param generator       The jackson-core generator to write to
+     * @param remainingLimits The maximum nesting depth
+     * @return The encoder
+     * @since 2.12.0
+     */
+    @NonNull
+    @Internal
+    public static Encoder acquire(@NonNull JsonGenerator generator, @NonNull RemainingLimits remainingLimits) {
+        Objects.requireNonNull(generator, "generator");
+        ReuseChildEncoder encoder = POOL.acquire();
+        if (encoder == null) {
+            return new ReuseChildEncoder(generator, remainingLimits);
+        }
+        encoder.reset(generator, remainingLimits);
+        return encoder;
+    }
+
+    /**
+     * Give an encoder obtained from {@link #acquire(JsonGenerator, RemainingLimits)} back to the
+     * pool.
+     *
+     * @param encoder The encoder
+     * @since 2.12.0
+     */
+    @Internal
+    public static void release(@NonNull Encoder encoder) {
+        if (encoder instanceof ReuseChildEncoder reuseChildEncoder) {
+            reuseChildEncoder.reset(null, DEFAULT_LIMITS);
+            POOL.release(reuseChildEncoder);
+        }
+    }
+
     void checkChild() {
         if (child != null) {
             throw new IllegalStateException("There is still an unfinished child generator");
@@ -80,6 +130,26 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
         }
     }
 
+    final void resetChild() {
+        child = null;
+    }
+
+    /**
+     * Point a pooled encoder at the generator of a new stream.
+     *
+     * @param generator The generator, or {@code null} when the encoder is released
+     */
+    final void resetGenerator(@Nullable JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * @return The generator this encoder writes to
+     */
+    final JsonGenerator generator() {
+        return generator;
+    }
+
     JacksonEncoder makeArrayChildEncoder() throws SerdeException {
         return new ArrayEncoder(this, childLimits());
     }
@@ -136,6 +206,19 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
         generator.writeFieldName(key);
     }
 
+    @Override
+    public final void encodeKey(@NonNull EncodedKey key) throws IOException {
+        Objects.requireNonNull(key, "key");
+        // the cached key is pre-quoted and written raw, bypassing the escaping of the generator
+        if (generator.getCharacterEscapes() == null
+            && generator.getHighestEscapedChar() == 0
+            && !generator.isEnabled(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature())) {
+            generator.writeFieldName(key.getEncoded(SERIALIZED_KEY));
+        } else {
+            generator.writeFieldName(key.getValue());
+        }
+    }
+
     @Override
     public final void encodeString(@NonNull String value) throws IOException {
         Objects.requireNonNull(value, "value");
@@ -199,6 +282,42 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
         generator.writeBinary(data);
     }
 
+    @Override
+    public void encodeBinary(@NonNull InputStream data, int length) throws IOException {
+        Objects.requireNonNull(data, "data");
+        generator.writeBinary(data, length);
+    }
+
+    @Override
+    public final void encodeIntArray(int @NonNull [] array, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(array, offset, length);
+    }
+
+    @Override
+    public final void encodeLongArray(long @NonNull [] array, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(array, offset, length);
+    }
+
+    @Override
+    public final void encodeFloatArray(float @NonNull [] array, int offset, int length) throws IOException {
+        checkChild();
+        // jackson has no float[] overload of writeArray
+        Objects.checkFromIndexSize(offset, length, array.length);
+        generator.writeStartArray(array, length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            generator.writeNumber(array[i]);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public final void encodeDoubleArray(double @NonNull [] array, int offset, int length) throws IOException {
+        checkChild();
+        generator.writeArray(array, offset, length);
+    }
+
     @Override
     public final void encodeNull() throws IOException {
         generator.writeNull();
@@ -211,7 +330,7 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
 
         @Override
         protected void finishStructureToken() throws IOException {
-            generator.writeEndArray();
+            generator().writeEndArray();
         }
     }
 
@@ -222,7 +341,7 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
 
         @Override
         protected void finishStructureToken() throws IOException {
-            generator.writeEndObject();
+            generator().writeEndObject();
         }
     }
 
@@ -245,6 +364,14 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
             super(generator, remainingLimits);
         }
 
+        void reset(@Nullable JsonGenerator generator, RemainingLimits remainingLimits) {
+            resetGenerator(generator);
+            resetLimits(remainingLimits);
+            type = 0;
+            depth = 0;
+            resetChild();
+        }
+
         @Override
         protected void finishStructureToken() throws IOException {
             if (depth == 0) {
@@ -253,9 +380,9 @@ public abstract class JacksonEncoder extends LimitingStream implements Encoder {
             decreaseDepth();
             depth--;
             if ((type & 1) == 0) {
-                generator.writeEndObject();
+                generator().writeEndObject();
             } else {
-                generator.writeEndArray();
+                generator().writeEndArray();
             }
             type >>>= 1;
         }
@@ -55,10 +55,15 @@ import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
 import io.micronaut.serde.UpdatingDeserializer;
+import io.micronaut.serde.ValueIterator;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.DefaultSerdeRegistry;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
+import io.micronaut.serde.support.util.ByteBufferInputStream;
+import io.micronaut.serde.support.util.DecoderValueIterator;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Processor;
@@ -67,6 +72,7 @@ import org.reactivestreams.Subscriber;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -96,6 +102,8 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
     private final Deserializer<?> specificDeserializer;
     @Nullable
     private final Serializer<?> specificSerializer;
+    private final SerdeMetrics metrics;
+    private final LimitingStream.RemainingLimits limits;
 
     @Inject
     @Internal
@@ -123,6 +131,8 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         this.specificType = specificType;
         this.specificDeserializer = specificDeserializer;
         this.specificSerializer = serializer;
+        this.metrics = registry instanceof DefaultSerdeRegistry defaultSerdeRegistry ? defaultSerdeRegistry.getMetrics() : SerdeMetrics.NOOP;
+        this.limits = LimitingStream.limitsFromConfiguration(serdeConfiguration);
     }
 
     @Override
@@ -231,12 +241,16 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         } else {
             serializer = encoderContext.findSerializer(argument).createSpecific(encoderContext, argument);
         }
-        final Encoder encoder = JacksonEncoder.create(gen, LimitingStream.limitsFromConfiguration(serdeConfiguration));
-        serializer.serialize(
-            encoder,
-            encoderContext,
-            argument, value
-        );
+        final Encoder encoder = JacksonEncoder.acquire(gen, limits);
+        try {
+            serializer.serialize(
+                encoder,
+                encoderContext,
+                argument, value
+            );
+        } finally {
+            JacksonEncoder.release(encoder);
+        }
     }
 
     private <T> T readValue(JsonParser parser, Argument<T> type) throws IOException {
@@ -246,18 +260,25 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
     @SuppressWarnings({"rawtypes", "unchecked"})
     private <T> T readValue0(JsonParser parser, Argument<?> type) throws IOException {
         configureParser(parser);
-        Deserializer deserializer;
+        Deserializer deserializer = findSpecificDeserializer(type);
+        final Decoder decoder = JacksonDecoder.acquire(parser, limits);
+        try {
+            return (T) deserializer.deserializeNullable(
+                decoder,
+                decoderContext,
+                type
+            );
+        } finally {
+            JacksonDecoder.release(decoder);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> Deserializer<? extends T> findSpecificDeserializer(Argument<T> type) throws IOException {
         if (type.equalsType(specificType)) {
-            deserializer = specificDeserializer;
-        } else {
-            deserializer = decoderContext.findDeserializer(type).createSpecific(decoderContext, (Argument) type);
+            return (Deserializer<? extends T>) specificDeserializer;
         }
-        final Decoder decoder = JacksonDecoder.create(parser, LimitingStream.limitsFromConfiguration(serdeConfiguration));
-        return (T) deserializer.deserializeNullable(
-            decoder,
-            decoderContext,
-            type
-        );
+        return decoderContext.findDeserializer(type).createSpecific(decoderContext, (Argument) type);
     }
 
     @Override
@@ -288,8 +309,46 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         }
     }
 
+    @Override
+    public <T> ValueIterator<T> readValues(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        JsonParser parser = jsonFactory.createParser(inputStream);
+        try {
+            configureParser(parser);
+            Deserializer<? extends T> deserializer = findSpecificDeserializer(type);
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                Decoder arrayDecoder = JacksonDecoder.create(parser, limits).decodeArray();
+                return DecoderValueIterator.ofArray(arrayDecoder, deserializer, decoderContext, type, parser);
+            }
+            // a sequence of root values, e.g. newline-delimited JSON
+            return new DecoderValueIterator<>(deserializer, decoderContext, type, parser) {
+                private boolean started;
+
+                @Override
+                protected Decoder nextValueDecoder() throws IOException {
+                    if (started) {
+                        parser.nextToken();
+                    }
+                    started = true;
+                    if (!parser.hasCurrentToken()) {
+                        return null;
+                    }
+                    return JacksonDecoder.create(parser, limits);
+                }
+            };
+        } catch (JsonParseException pe) {
+            parser.close();
+            throw new JsonSyntaxException(pe);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T readValue(@NonNull byte[] byteArray, @NonNull Argument<T> type) throws IOException {
+        if (metrics != SerdeMetrics.NOOP) {
+            recordBytes(metrics.deserializerRecorder(type), byteArray.length);
+        }
         try (JsonParser parser = jsonFactory.createParser(byteArray)) {
             return readValue(parser, type);
         } catch (JsonParseException pe) {
@@ -306,6 +365,17 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         }
     }
 
+    @Override
+    public <T> T readValue(java.nio.ByteBuffer byteBuffer, @NonNull Argument<T> type) throws IOException {
+        try (JsonParser parser = byteBuffer.hasArray()
+            ? jsonFactory.createParser(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining())
+            : jsonFactory.createParser(new ByteBufferInputStream(byteBuffer))) {
+            return readValue(parser, type);
+        } catch (JsonParseException pe) {
+            throw new JsonSyntaxException(pe);
+        }
+    }
+
     @Override
     public void writeValue(@NonNull OutputStream outputStream, @Nullable Object object) throws IOException {
         try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
@@ -328,6 +398,10 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         }
         byte[] bytes = bb.toByteArray();
         bb.release();
+        if (object != null && metrics != SerdeMetrics.NOOP) {
+            // record under the runtime type, like the serializer timings of the value
+            recordBytes(metrics.serializerRecorder(Argument.of(object.getClass())), bytes.length);
+        }
         return bytes;
     }
 
@@ -339,9 +413,18 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         }
         byte[] bytes = bb.toByteArray();
         bb.release();
+        if (metrics != SerdeMetrics.NOOP) {
+            recordBytes(metrics.serializerRecorder(type), bytes.length);
+        }
         return bytes;
     }
 
+    private static void recordBytes(@Nullable SerdeMetrics.TypeRecorder recorder, long bytes) {
+        if (recorder != null) {
+            recorder.recordBytes(bytes);
+        }
+    }
+
     @NonNull
     @Override
     public JsonStreamConfig getStreamConfig() {
@@ -359,6 +442,27 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
         };
     }
 
+    @Override
+    public <T> @NonNull Processor<byte[], T> createReactiveParser(@NonNull Argument<T> type,
+                                                                 @NonNull Consumer<Processor<byte[], T>> onSubscribe,
+                                                                 boolean streamArray) {
+        try {
+            JsonParser parser = jsonFactory.createNonBlockingByteArrayParser();
+            configureParser(parser);
+            return new JacksonDeserializingProcessor<>(
+                onSubscribe,
+                findSpecificDeserializer(type),
+                decoderContext,
+                type,
+                parser,
+                streamArray,
+                limits
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @NonNull
     @Override
     public JsonMapper cloneWithViewClass(@NonNull Class<?> viewClass) {
@@ -384,7 +488,7 @@ public final class JacksonJsonMapper implements JacksonObjectMapper {
                     }
                     // for jackson compat we need to support deserializing null, but most deserializers don't support it.
                     if (parser.currentToken() != JsonToken.VALUE_NULL) {
-                        final Decoder decoder = JacksonDecoder.create(parser, LimitingStream.limitsFromConfiguration(serdeConfiguration));
+                        final Decoder decoder = JacksonDecoder.create(parser, limits);
                         ((UpdatingDeserializer<Object>) deserializer).deserializeInto(
                             decoder,
                             decoderContext,
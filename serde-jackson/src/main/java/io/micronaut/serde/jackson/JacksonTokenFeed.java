@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.LimitingStream;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.TokenBufferDecoder;
+
+import java.io.IOException;
+
+/**
+ * Incremental reader on top of the jackson non-blocking parser. Input chunks are fed as they
+ * arrive, and the tokens of each value are recorded into a {@link TokenBufferDecoder} until the
+ * value is complete. Parsing suspends whenever the parser returns
+ * {@link JsonToken#NOT_AVAILABLE}. A value is only handed out once all of its tokens have been
+ * recorded.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class JacksonTokenFeed {
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final boolean streamArray;
+    private final LimitingStream.RemainingLimits limits;
+
+    @Nullable
+    private TokenBufferDecoder.Builder buffer;
+    private int depth;
+    private boolean unwrappingArray;
+
+    JacksonTokenFeed(JsonParser parser, boolean streamArray, LimitingStream.RemainingLimits limits) {
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.streamArray = streamArray;
+        this.limits = limits;
+    }
+
+    /**
+     * Feed the next chunk of input. All values of the previous chunk must have been read using
+     * {@link #nextValue()} first.
+     *
+     * @param bytes  The input
+     * @param offset The start offset
+     * @param length The number of bytes
+     * @throws IOException If the parser is not ready for more input
+     */
+    void feed(byte[] bytes, int offset, int length) throws IOException {
+        feeder.feedInput(bytes, offset, offset + length);
+    }
+
+    /**
+     * Signal that no more input will be fed.
+     */
+    void endOfInput() {
+        feeder.endOfInput();
+    }
+
+    /**
+     * @return {@code true} if the input ended in the middle of a value or of the unwrapped array
+     */
+    boolean isIncomplete() {
+        return buffer != null || unwrappingArray;
+    }
+
+    void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * Parse the available input until the next value is complete.
+     *
+     * @return A decoder for the next value, or {@code null} if more input is needed or the input
+     * has ended
+     * @throws IOException If the input is invalid
+     */
+    @Nullable
+    Decoder nextValue() throws IOException {
+        JsonToken t;
+        while ((t = parser.nextToken()) != null && t != JsonToken.NOT_AVAILABLE) {
+            if (buffer == null) {
+                if (streamArray && !unwrappingArray && t == JsonToken.START_ARRAY) {
+                    unwrappingArray = true;
+                    continue;
+                }
+                if (unwrappingArray && t == JsonToken.END_ARRAY) {
+                    unwrappingArray = false;
+                    continue;
+                }
+                buffer = TokenBufferDecoder.builder();
+            }
+            record(t);
+            if (depth == 0) {
+                TokenBufferDecoder.Builder complete = buffer;
+                buffer = null;
+                return complete.build(limits);
+            }
+        }
+        return null;
+    }
+
+    private void record(JsonToken t) throws IOException {
+        switch (t) {
+            case START_OBJECT -> {
+                depth++;
+                buffer.startObject();
+            }
+            case START_ARRAY -> {
+                depth++;
+                buffer.startArray();
+            }
+            case END_OBJECT -> {
+                depth--;
+                buffer.endObject();
+            }
+            case END_ARRAY -> {
+                depth--;
+                buffer.endArray();
+            }
+            case FIELD_NAME -> buffer.key(parser.currentName());
+            case VALUE_STRING -> buffer.string(parser.getText());
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> buffer.number(parser.getNumberValue());
+            case VALUE_TRUE -> buffer.bool(true);
+            case VALUE_FALSE -> buffer.bool(false);
+            case VALUE_NULL -> buffer.nullValue();
+            default -> throw new SerdeException("Unexpected token " + t + " \n at " + parser.getCurrentLocation());
+        }
+    }
+}
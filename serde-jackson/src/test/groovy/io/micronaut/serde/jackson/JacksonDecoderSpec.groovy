@@ -3,6 +3,7 @@ package io.micronaut.serde.jackson
 import com.fasterxml.jackson.core.JsonFactoryBuilder
 import io.micronaut.serde.Decoder
 import io.micronaut.serde.LimitingStream
+import io.micronaut.serde.PropertyNameTable
 import io.micronaut.serde.exceptions.SerdeException
 import org.intellij.lang.annotations.Language
 import spock.lang.Specification
@@ -146,4 +147,113 @@ class JacksonDecoderSpec extends Specification {
         !arrayDecoder.hasNextArrayValue()
         arrayDecoder.finishStructure()
     }
+
+    def 'key index resolution'() {
+        given:
+        def table = PropertyNameTable.of(['a', 'b', 'c'])
+        def object = createDecoder('{"a":1,"c":2,"x":3,"b":4}').decodeObject()
+
+        expect:
+        object.decodeKeyIndex(table, 0) == 0
+        object.decodeInt() == 1
+        object.decodeKeyIndex(table, 1) == 2
+        object.decodeInt() == 2
+        object.decodeKeyIndex(table, 3) == PropertyNameTable.UNRESOLVED
+        object.decodeKeyIndex(table, -1) == PropertyNameTable.UNRESOLVED
+        object.decodeKey() == 'x'
+        object.decodeInt() == 3
+        object.decodeKeyIndex(table, -1) == 1
+        object.decodeInt() == 4
+        object.decodeKeyIndex(table, 2) == PropertyNameTable.NO_MORE_KEYS
+        object.decodeKeyIndex(table, 2) == PropertyNameTable.NO_MORE_KEYS
+        object.finishStructure()
+    }
+
+    def 'bulk primitive arrays'() {
+        expect:
+        // -15584170 is the canary value of the fast path
+        createDecoder('[1,-2,"3",null,true,-15584170,[5]]').decodeIntArray() == [1, -2, 3, 0, 1, -15584170, 5] as int[]
+        createDecoder('[1,-66933498462557235,"3",null,[5]]').decodeLongArray() == [1, -66933498462557235L, 3, 0, 5] as long[]
+        createDecoder('[1.5,2,"3.5",null,false]').decodeFloatArray() == [1.5f, 2f, 3.5f, 0f, 0f] as float[]
+        createDecoder('[1.5,2,"3.5",null,[4.5]]').decodeDoubleArray() == [1.5d, 2d, 3.5d, 0d, 4.5d] as double[]
+        createDecoder('[]').decodeIntArray().length == 0
+    }
+
+    def 'bulk primitive arrays place the cursor correctly'() {
+        given:
+        def decoder = createDecoder('[[1,2],[3.5],"x"]')
+        def array = decoder.decodeArray()
+
+        expect:
+        array.decodeIntArray() == [1, 2] as int[]
+        array.decodeDoubleArray() == [3.5d] as double[]
+        array.decodeString() == 'x'
+        array.finishStructure()
+    }
+
+    def 'bulk primitive arrays reject other values'() {
+        when:
+        createDecoder('{"a":1}').decodeIntArray()
+
+        then:
+        thrown SerdeException
+    }
+
+    def 'binary into a stream'() {
+        given:
+        def out = new ByteArrayOutputStream()
+        def array = createDecoder('["AAE=",[2,null,3],"x"]').decodeArray()
+
+        expect:
+        array.decodeBinary(out) == 2
+        out.toByteArray() == [0, 1] as byte[]
+        array.decodeBinary(out) == 3
+        out.toByteArray() == [0, 1, 2, 0, 3] as byte[]
+        array.decodeString() == 'x'
+        array.finishStructure()
+    }
+
+    def 'pooled decoders are reset and never shared while in use'() {
+        given:
+        def factory = new JsonFactoryBuilder().build()
+        def outer = JacksonDecoder.acquire(factory.createParser('[1,2]'), LimitingStream.DEFAULT_LIMITS)
+        def outerArray = outer.decodeArray()
+        def nested = JacksonDecoder.acquire(factory.createParser('"nested"'), LimitingStream.DEFAULT_LIMITS)
+
+        expect:
+        !nested.is(outer)
+        nested.decodeString() == 'nested'
+        outerArray.decodeInt() == 1
+
+        when:
+        JacksonDecoder.release(nested)
+        def reused = JacksonDecoder.acquire(factory.createParser('{"a":"b"}'), LimitingStream.DEFAULT_LIMITS)
+        def object = reused.decodeObject()
+
+        then:
+        reused.is(nested)
+        object.decodeKey() == 'a'
+        object.decodeString() == 'b'
+        object.decodeKey() == null
+        object.finishStructure()
+        outerArray.decodeInt() == 2
+
+        cleanup:
+        JacksonDecoder.release(reused)
+        JacksonDecoder.release(outer)
+    }
+
+    def 'known key projection skips unwanted values'() {
+        given:
+        def table = PropertyNameTable.of(['a', 'b'])
+        def object = createDecoder('{"x":{"y":[1,{"z":2}]},"a":1,"w":[3],"q":"s","b":4,"v":5}').decodeObject()
+
+        expect:
+        object.decodeKnownKeyIndex(table, 0) == 0
+        object.decodeInt() == 1
+        object.decodeKnownKeyIndex(table, 1) == 1
+        object.decodeInt() == 4
+        object.decodeKnownKeyIndex(table, 2) == PropertyNameTable.NO_MORE_KEYS
+        object.finishStructure()
+    }
 }
@@ -0,0 +1,53 @@
+package io.micronaut.serde.jackson
+
+import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.core.JsonFactoryBuilder
+import com.fasterxml.jackson.core.SerializableString
+import com.fasterxml.jackson.core.io.CharacterEscapes
+import com.fasterxml.jackson.core.json.JsonWriteFeature
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.EncodedKey
+import io.micronaut.serde.LimitingStream
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class JacksonEncoderSpec extends Specification {
+    private static String write(JsonFactory factory, boolean bytes, EncodedKey key) {
+        def out = new ByteArrayOutputStream()
+        def writer = new StringWriter()
+        def generator = bytes ? factory.createGenerator(out) : factory.createGenerator(writer)
+        def encoder = JacksonEncoder.create(generator, LimitingStream.DEFAULT_LIMITS)
+        def object = encoder.encodeObject(Argument.OBJECT_ARGUMENT)
+        object.encodeKey(key)
+        object.encodeString('x')
+        object.finishStructure()
+        generator.close()
+        return bytes ? out.toString(StandardCharsets.UTF_8) : writer.toString()
+    }
+
+    def "encoded keys are written like plain keys"() {
+        given:
+        def key = EncodedKey.of('prénom')
+
+        expect:
+        write(new JsonFactoryBuilder().build(), bytes, key) == '{"prénom":"x"}'
+        write(new JsonFactoryBuilder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build(), bytes, key) == '{"pr\\u00E9nom":"x"}'
+        write(new JsonFactoryBuilder().characterEscapes(new CharacterEscapes() {
+            @Override
+            int[] getEscapeCodesForAscii() {
+                def escapes = standardAsciiEscapesForJSON()
+                escapes[(int) ('p' as char)] = CharacterEscapes.ESCAPE_STANDARD
+                return escapes
+            }
+
+            @Override
+            SerializableString getEscapeSequence(int ch) {
+                return null
+            }
+        }).build(), bytes, key) == '{"\\u0070rénom":"x"}'
+
+        where:
+        bytes << [true, false]
+    }
+}
@@ -0,0 +1,48 @@
+package io.micronaut.serde.jackson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.ObjectMapper
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ReadValuesSpec extends Specification {
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))
+    }
+
+    void "read the elements of a top-level array"() {
+        given:
+        ObjectMapper om = ObjectMapper.getDefault()
+        def iterator = om.readValues(input('[{"name":"Fred"},{"name":"Bob"},null]'), Argument.of(Simple))
+
+        expect:
+        iterator.hasNext()
+        iterator.next().name == 'Fred'
+        iterator.next().name == 'Bob'
+        iterator.next() == null
+        !iterator.hasNext()
+    }
+
+    void "read newline-delimited values"() {
+        given:
+        ObjectMapper om = ObjectMapper.getDefault()
+        def stream = om.readValues(input('{"name":"Fred"}\n{"name":"Bob"}\n'), Argument.of(Simple)).stream()
+
+        expect:
+        stream.map(s -> s.name).toList() == ['Fred', 'Bob']
+
+        cleanup:
+        stream.close()
+    }
+
+    void "read empty input"() {
+        given:
+        ObjectMapper om = ObjectMapper.getDefault()
+
+        expect:
+        !om.readValues(input(''), Argument.of(Simple)).hasNext()
+        !om.readValues(input('[]'), Argument.of(Simple)).hasNext()
+    }
+}
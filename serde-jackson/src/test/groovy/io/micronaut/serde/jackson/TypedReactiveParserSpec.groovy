@@ -0,0 +1,68 @@
+package io.micronaut.serde.jackson
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.ObjectMapper
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class TypedReactiveParserSpec extends Specification {
+
+    void "values are deserialized as soon as they are complete"() {
+        given:
+        ObjectMapper om = ObjectMapper.getDefault()
+        def processor = om.createReactiveParser(Argument.of(Simple), p -> {}, true)
+        def seen = new ArrayDeque<Simple>()
+        Subscription downstream = null
+        processor.onSubscribe(new Subscription() {
+            @Override
+            void request(long n) {
+            }
+
+            @Override
+            void cancel() {
+            }
+        })
+        processor.subscribe(new Subscriber<Simple>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                downstream = s
+            }
+
+            @Override
+            void onNext(Simple simple) {
+                seen.add(simple)
+            }
+
+            @Override
+            void onError(Throwable t) {
+                t.printStackTrace()
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        when:
+        processor.onNext('[{"name":"Fr'.getBytes(StandardCharsets.UTF_8))
+        processor.onNext('ed"},{"name":"Bob"},'.getBytes(StandardCharsets.UTF_8))
+        then:
+        seen.isEmpty()
+
+        when:
+        downstream.request(1)
+        then:
+        seen.remove().name == 'Fred'
+        seen.isEmpty()
+
+        when:
+        processor.onNext('null,{"name":"Alice"}]'.getBytes(StandardCharsets.UTF_8))
+        processor.onComplete()
+        downstream.request(Long.MAX_VALUE)
+        then:
+        seen*.name == ['Bob', 'Alice']
+    }
+}
@@ -81,4 +81,34 @@ class Ignored {
         cleanup:
             context.close()
     }
+
+    void "ignored and unknown keys of a constructor bean in any order"() {
+        given:
+            def context = buildContext('example.Test', '''
+package example;
+
+import com.fasterxml.jackson.annotation.*;
+
+@JsonIgnoreProperties(value = "secret", ignoreUnknown = false)
+record Test(String foo, String bar) {
+}
+''')
+
+        when:
+            def des = jsonMapper.readValue('{"bar": "2", "secret": "x", "foo": "1"}', typeUnderTest)
+
+        then:
+            des.foo == "1"
+            des.bar == "2"
+
+        when:
+            jsonMapper.readValue('{"foo": "1", "other": "x", "bar": "2"}', typeUnderTest)
+
+        then:
+            def e = thrown(Exception)
+            e.message.contains(unknownPropertyMessage("other", "example.Test"))
+
+        cleanup:
+            context.close()
+    }
 }
@@ -0,0 +1,93 @@
+package io.micronaut.serde.jackson.generated
+
+import io.micronaut.core.type.Argument
+import io.micronaut.json.JsonMapper
+import io.micronaut.serde.GeneratedDeserializer
+import io.micronaut.serde.GeneratedSerializer
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class GeneratedSerializerSpec extends Specification {
+
+    @Inject
+    JsonMapper jsonMapper
+
+    @Inject
+    SerdeRegistry registry
+
+    def 'serializer and deserializer are generated for the opted-in types'() {
+        expect:
+        GeneratedSerializer.isAssignableFrom(Class.forName('io.micronaut.serde.jackson.generated.$GeneratedPoint$Serializer'))
+        GeneratedDeserializer.isAssignableFrom(Class.forName('io.micronaut.serde.jackson.generated.$GeneratedPoint$Deserializer'))
+        GeneratedSerializer.isAssignableFrom(Class.forName('io.micronaut.serde.jackson.generated.$GeneratedNode$Serializer'))
+        GeneratedDeserializer.isAssignableFrom(Class.forName('io.micronaut.serde.jackson.generated.$GeneratedNode$Deserializer'))
+    }
+
+    def 'generated serializer writes the resolved names and applies the inclusion rules'() {
+        expect:
+        jsonMapper.writeValueAsString(new GeneratedPoint(1, 2, null, ['a', 'b'])) == '{"px":1,"y":2,"tags":["a","b"]}'
+        jsonMapper.writeValueAsString(new GeneratedPoint(1, 2, 'l', [])) == '{"px":1,"y":2,"label":"l"}'
+        jsonMapper.readValue('{"px":1,"y":2,"label":"l","tags":[]}', GeneratedPoint) == new GeneratedPoint(1, 2, 'l', [])
+    }
+
+    def 'generated serializer and deserializer are used'() {
+        given:
+        def encoderContext = registry.newEncoderContext(null)
+        def decoderContext = registry.newDecoderContext(null)
+        def type = Argument.of(GeneratedPoint)
+
+        when:
+        def serializer = registry.findSerializer(type).createSpecific(encoderContext, type)
+        def deserializer = registry.findDeserializer(type).createSpecific(decoderContext, type)
+
+        then:
+        serializer.@serializer instanceof GeneratedSerializer
+        deserializer.@deserializer instanceof GeneratedDeserializer
+    }
+
+    def 'generated deserializer sets the properties and skips the ignored ones'() {
+        when:
+        def node = jsonMapper.readValue('{"n":"a","cache":"c","unknown":1,"next":{"depth":2,"n":"b"}}', GeneratedNode)
+
+        then:
+        node.name == 'a'
+        node.depth == 0
+        node.cache == null
+        node.next.name == 'b'
+        node.next.depth == 2
+        node.next.next == null
+    }
+
+    def 'generated serializer handles recursive types'() {
+        given:
+        def node = new GeneratedNode(name: 'a', depth: 1, cache: 'c', next: new GeneratedNode(name: 'b', depth: 2))
+
+        expect:
+        jsonMapper.writeValueAsString(node) == '{"n":"a","depth":1,"next":{"n":"b","depth":2}}'
+    }
+
+    def 'generated deserializer defaults the missing constructor parameters'() {
+        expect:
+        jsonMapper.readValue('{"y":2}', GeneratedPoint) == new GeneratedPoint(0, 2, null, null)
+    }
+
+    def 'nothing is generated for beans with views'() {
+        when:
+        Class.forName('io.micronaut.serde.jackson.generated.$GeneratedOrder$Serializer')
+
+        then:
+        thrown(ClassNotFoundException)
+    }
+
+    def 'beans with views use the introspection'() {
+        given:
+        def order = new GeneratedOrder(id: '1', location: new GeneratedPoint(3, 4, 'x', []), secret: 's')
+
+        expect:
+        jsonMapper.writeValueAsString(order) == '{"id":"1","location":{"px":3,"y":4,"label":"x"},"secret":"s"}'
+        jsonMapper.cloneWithViewClass(String).writeValueAsString(order) == '{"id":"1","location":{"px":3,"y":4,"label":"x"}}'
+    }
+}
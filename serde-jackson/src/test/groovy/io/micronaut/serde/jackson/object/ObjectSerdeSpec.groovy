@@ -1,7 +1,10 @@
 package io.micronaut.serde.jackson.object
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.annotation.MutableAnnotationMetadata
 import io.micronaut.json.JsonMapper
+import io.micronaut.serde.config.annotation.SerdeConfig
 import io.micronaut.serde.exceptions.SerdeException
 import io.micronaut.serde.jackson.JsonCompileSpec
 import spock.lang.Issue
@@ -677,6 +680,85 @@ class Test {
         context.close()
     }
 
+    void "stop when complete skips the rest of the object"() {
+        given:
+        def context = buildContext('example.Test', '''
+package example;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+
+@JsonIgnoreProperties(ignoreUnknown = false)
+@Serdeable.Deserializable(stopWhenComplete = true)
+@Serdeable.Serializable
+@Introspected(accessKind = Introspected.AccessKind.FIELD)
+class Test {
+    public String foo;
+    public int bar;
+}
+''')
+
+        when:
+        def des = jsonMapper.readValue('{"foo": "1", "bar": 2, "baz": {"a": [1, {"b": 2}]}, "qux": "3"}', typeUnderTest)
+
+        then:
+        des.foo == "1"
+        des.bar == 2
+
+        when:
+        def list = jsonMapper.readValue('[{"bar": 1, "foo": "1", "baz": [{}, []]}, {"foo": "2", "bar": 2}]', Argument.listOf(typeUnderTest))
+
+        then:
+        list*.foo == ["1", "2"]
+        list*.bar == [1, 2]
+
+        when:
+        jsonMapper.readValue('{"foo": "1", "baz": 3, "bar": 2}', typeUnderTest)
+
+        then:
+        thrown SerdeException
+
+        cleanup:
+        context.close()
+    }
+
+    void "stop when complete can be enabled on the argument"() {
+        given:
+        def context = buildContext('example.Test', '''
+package example;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+
+@JsonIgnoreProperties(ignoreUnknown = false)
+@Serdeable
+@Introspected(accessKind = Introspected.AccessKind.FIELD)
+class Test {
+    public String foo;
+}
+''')
+        def metadata = new MutableAnnotationMetadata()
+        metadata.addDeclaredAnnotation(SerdeConfig.name, [(SerdeConfig.STOP_WHEN_COMPLETE): true])
+        def argument = Argument.of(typeUnderTest.type, 'test', metadata)
+
+        when:
+        jsonMapper.readValue('{"foo": "1", "bar": "2"}', typeUnderTest)
+
+        then:
+        thrown SerdeException
+
+        when:
+        def des = jsonMapper.readValue('{"foo": "1", "bar": "2"}', argument)
+
+        then:
+        des.foo == "1"
+
+        cleanup:
+        context.close()
+    }
+
     void "unknown properties with proper annotation"() {
         given:
         def context = buildContext('example.Test', '''
@@ -0,0 +1,47 @@
+package io.micronaut.serde.jackson.generated;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable(generated = true)
+public class GeneratedNode {
+    @JsonProperty("n")
+    private String name;
+    private int depth;
+    private GeneratedNode next;
+    @JsonIgnore
+    private String cache;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public GeneratedNode getNext() {
+        return next;
+    }
+
+    public void setNext(GeneratedNode next) {
+        this.next = next;
+    }
+
+    public String getCache() {
+        return cache;
+    }
+
+    public void setCache(String cache) {
+        this.cache = cache;
+    }
+}
@@ -0,0 +1,36 @@
+package io.micronaut.serde.jackson.generated;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable(generated = true)
+public class GeneratedOrder {
+    private String id;
+    private GeneratedPoint location;
+    private String secret;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public GeneratedPoint getLocation() {
+        return location;
+    }
+
+    public void setLocation(GeneratedPoint location) {
+        this.location = location;
+    }
+
+    @JsonView(GeneratedOrder.class)
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
@@ -0,0 +1,10 @@
+package io.micronaut.serde.jackson.generated;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+@Serdeable(generated = true)
+public record GeneratedPoint(@JsonProperty("px") int x, int y, String label, List<String> tags) {
+}
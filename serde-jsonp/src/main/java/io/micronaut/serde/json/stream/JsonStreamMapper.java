@@ -29,10 +29,13 @@ import io.micronaut.serde.LimitingStream;
 import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
+import io.micronaut.serde.ValueIterator;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
+import io.micronaut.serde.support.util.ByteBufferInputStream;
+import io.micronaut.serde.support.util.DecoderValueIterator;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
 import io.micronaut.serde.support.util.JsonNodeEncoder;
 import jakarta.inject.Inject;
@@ -47,6 +50,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -116,6 +120,35 @@ public class JsonStreamMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public <T> ValueIterator<T> readValues(InputStream inputStream, Argument<T> type) throws IOException {
+        JsonParser parser = Json.createParser(inputStream);
+        try {
+            JsonParserDecoder decoder = new JsonParserDecoder(parser, limits());
+            Deserializer.DecoderContext context = registry.newDecoderContext(view);
+            final Deserializer<? extends T> deserializer = context.findDeserializer(type).createSpecific(context, type);
+            if (parser.currentEvent() == JsonParser.Event.START_ARRAY) {
+                return DecoderValueIterator.ofArray(decoder.decodeArray(), deserializer, context, type, parser);
+            }
+            // JSON-P does not support multiple root values, so this is a single value
+            return new DecoderValueIterator<>(deserializer, context, type, parser) {
+                private boolean started;
+
+                @Override
+                protected Decoder nextValueDecoder() {
+                    if (started) {
+                        return null;
+                    }
+                    started = true;
+                    return decoder;
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T readValue(byte[] byteArray, Argument<T> type) throws IOException {
         try (JsonParser parser = Json.createParser(new ByteArrayInputStream(byteArray))) {
@@ -123,6 +156,18 @@ public class JsonStreamMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public <T> T readValue(io.micronaut.core.io.buffer.ByteBuffer<?> byteBuffer, Argument<T> type) throws IOException {
+        return readValue(byteBuffer.asNioBuffer(), type);
+    }
+
+    @Override
+    public <T> T readValue(ByteBuffer byteBuffer, Argument<T> type) throws IOException {
+        try (JsonParser parser = Json.createParser(new ByteBufferInputStream(byteBuffer))) {
+            return readValue(parser, type);
+        }
+    }
+
     private <T> T readValue(JsonParser parser, Argument<T> type) throws IOException {
         Decoder decoder = new JsonParserDecoder(parser, limits());
         Deserializer.DecoderContext context = registry.newDecoderContext(view);
@@ -1,9 +1,15 @@
 package io.micronaut.serde.json.stream
 
+import io.micronaut.core.type.Argument
 import io.micronaut.json.JsonMapper
 import io.micronaut.serde.AbstractBasicSerdeSpec
+import io.micronaut.serde.ObjectMapper
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
 
 
 @MicronautTest
@@ -12,4 +18,26 @@ class JsonpJsonBasicSerdeSpec extends AbstractBasicSerdeSpec {
     @Inject
     JsonMapper jsonMapper
 
+    def 'read from nio buffers'() {
+        given:
+        def bytes = '{"a":1,"b":2}'.getBytes(StandardCharsets.UTF_8)
+        def direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+        def slice = ByteBuffer.wrap(('  ' + new String(bytes, StandardCharsets.UTF_8) + '!').getBytes(StandardCharsets.UTF_8), 2, bytes.length)
+        def type = Argument.mapOf(String, Integer)
+
+        expect:
+        ((ObjectMapper) jsonMapper).readValue(direct, type) == [a: 1, b: 2]
+        direct.position() == 0
+        ((ObjectMapper) jsonMapper).readValue(slice, type) == [a: 1, b: 2]
+        slice.position() == 2
+    }
+
+    def 'typed reactive parser binds the parsed trees'() {
+        given:
+        def processor = ((ObjectMapper) jsonMapper).createReactiveParser(Argument.mapOf(String, Integer), p -> {}, true)
+        Flux.just('[{"a":1},nu'.getBytes(StandardCharsets.UTF_8), 'll,{"b":2}]'.getBytes(StandardCharsets.UTF_8)).subscribe(processor)
+
+        expect:
+        Flux.from(processor).collectList().block() == [[a: 1], [b: 2]]
+    }
 }
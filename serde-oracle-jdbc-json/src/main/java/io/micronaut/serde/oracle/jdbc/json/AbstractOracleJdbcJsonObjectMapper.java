@@ -21,15 +21,19 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonStreamConfig;
 import io.micronaut.json.tree.JsonNode;
+import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
 import io.micronaut.serde.Encoder;
 import io.micronaut.serde.LimitingStream;
 import io.micronaut.serde.ObjectMapper;
 import io.micronaut.serde.SerdeRegistry;
 import io.micronaut.serde.Serializer;
+import io.micronaut.serde.ValueIterator;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.support.util.BufferingJsonNodeProcessor;
+import io.micronaut.serde.support.util.ByteBufferInputStream;
+import io.micronaut.serde.support.util.DecoderValueIterator;
 import io.micronaut.serde.support.util.JsonNodeDecoder;
 import io.micronaut.serde.support.util.JsonNodeEncoder;
 import oracle.sql.json.OracleJsonArray;
@@ -39,11 +43,10 @@ import oracle.sql.json.OracleJsonObject;
 import oracle.sql.json.OracleJsonParser;
 import org.reactivestreams.Processor;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -80,6 +83,16 @@ abstract class AbstractOracleJdbcJsonObjectMapper implements ObjectMapper {
 
     abstract OracleJsonParser getJsonParser(InputStream inputStream);
 
+    /**
+     * Create a parser for the remaining bytes of the buffer, without changing its position.
+     *
+     * @param byteBuffer The buffer
+     * @return The parser
+     */
+    OracleJsonParser getJsonParser(ByteBuffer byteBuffer) {
+        return getJsonParser(new ByteBufferInputStream(byteBuffer));
+    }
+
     abstract OracleJsonGenerator createJsonGenerator(OutputStream outputStream);
 
     @Override
@@ -100,9 +113,48 @@ abstract class AbstractOracleJdbcJsonObjectMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public <T> ValueIterator<T> readValues(@NonNull InputStream inputStream, @NonNull Argument<T> type) throws IOException {
+        OracleJsonParser parser = getJsonParser(inputStream);
+        try {
+            OracleJdbcJsonParserDecoder decoder = new OracleJdbcJsonParserDecoder(parser, limits());
+            Deserializer.DecoderContext context = registry.newDecoderContext(view);
+            final Deserializer<? extends T> deserializer = this.registry.findDeserializer(type).createSpecific(context, type);
+            if (decoder.isAtArrayStart()) {
+                return DecoderValueIterator.ofArray(decoder.decodeArray(), deserializer, context, type, parser::close);
+            }
+            // the parser reads a single root value
+            return new DecoderValueIterator<>(deserializer, context, type, parser::close) {
+                private boolean started;
+
+                @Override
+                protected Decoder nextValueDecoder() {
+                    if (started) {
+                        return null;
+                    }
+                    started = true;
+                    return decoder;
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T readValue(byte[] byteArray, Argument<T> type) throws IOException {
-        try (OracleJsonParser parser = getJsonParser(new ByteArrayInputStream(byteArray))) {
+        return readValue(ByteBuffer.wrap(byteArray), type);
+    }
+
+    @Override
+    public <T> T readValue(io.micronaut.core.io.buffer.ByteBuffer<?> byteBuffer, Argument<T> type) throws IOException {
+        return readValue(byteBuffer.asNioBuffer(), type);
+    }
+
+    @Override
+    public <T> T readValue(ByteBuffer byteBuffer, Argument<T> type) throws IOException {
+        try (OracleJsonParser parser = getJsonParser(byteBuffer)) {
             return readValue(parser, type);
         }
     }
@@ -235,16 +287,53 @@ abstract class AbstractOracleJdbcJsonObjectMapper implements ObjectMapper {
 
     @Override
     public byte[] writeValueAsBytes(Object object) throws IOException {
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-        writeValue(output, object);
-        return output.toByteArray();
+        PooledOutputBuffer buffer = PooledOutputBuffer.acquire();
+        try {
+            writeValue(buffer, object);
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
+        }
     }
 
     @Override
     public <T> byte[] writeValueAsBytes(Argument<T> type, T object) throws IOException {
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-        writeValue(output, type, object);
-        return output.toByteArray();
+        PooledOutputBuffer buffer = PooledOutputBuffer.acquire();
+        try {
+            writeValue(buffer, type, object);
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes the value into a pooled buffer and passes it to the given function, without copying
+     * it to a byte array first. The buffer is returned to the pool when the function completes,
+     * so it must not escape the function, e.g. it can be bound to a statement that is executed
+     * within the function.
+     *
+     * @param type     The argument
+     * @param value    The value
+     * @param function The function receiving the encoded value
+     * @param <T>      The type
+     * @param <R>      The result type
+     * @param <E>      The exception type of the function
+     * @return The result of the function
+     * @throws IOException If the value could not be written
+     * @throws E           If the function fails
+     * @since 2.12.0
+     */
+    public <T, R, E extends Exception> R writeValueToBuffer(@NonNull Argument<T> type,
+                                                           @Nullable T value,
+                                                           @NonNull OracleJsonBufferFunction<R, E> function) throws IOException, E {
+        PooledOutputBuffer buffer = PooledOutputBuffer.acquire();
+        try {
+            writeValue(buffer, type, value);
+            return function.apply(buffer.asByteBuffer());
+        } finally {
+            buffer.release();
+        }
     }
 
     @Override
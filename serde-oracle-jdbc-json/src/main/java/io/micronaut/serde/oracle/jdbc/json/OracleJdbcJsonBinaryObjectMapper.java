@@ -28,6 +28,7 @@ import oracle.sql.json.OracleJsonParser;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Implementation of the {@link JsonMapper} interface for Oracle JDBC Binary JSON.
@@ -70,6 +71,12 @@ public final class OracleJdbcJsonBinaryObjectMapper extends AbstractOracleJdbcJs
         return oracleJsonFactory.createJsonBinaryParser(inputStream);
     }
 
+    @Override
+    OracleJsonParser getJsonParser(ByteBuffer byteBuffer) {
+        // OSON offsets are relative to the start of the buffer
+        return oracleJsonFactory.createJsonBinaryParser(byteBuffer.slice());
+    }
+
     @Override
     OracleJsonGenerator createJsonGenerator(OutputStream outputStream) {
         return oracleJsonFactory.createJsonBinaryGenerator(outputStream);
@@ -52,6 +52,13 @@ public final class OracleJdbcJsonParserDecoder extends AbstractStreamDecoder {
         this.currentEvent = jsonParser.next();
     }
 
+    /**
+     * @return Whether the parser is at the start of an array
+     */
+    boolean isAtArrayStart() {
+        return currentEvent == OracleJsonParser.Event.START_ARRAY;
+    }
+
     @Override
     public void finishStructure(boolean consumeLeftElements) throws IOException {
         super.finishStructure(consumeLeftElements);
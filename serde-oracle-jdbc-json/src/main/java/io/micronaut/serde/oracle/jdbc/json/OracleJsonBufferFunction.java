@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.oracle.jdbc.json;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives an encoded value as a {@link ByteBuffer}, e.g. to bind it to a JDBC statement. The
+ * buffer is only valid for the duration of the call.
+ *
+ * @param <R> The result type
+ * @param <E> The exception type, e.g. {@link java.sql.SQLException}
+ * @since 2.12.0
+ */
+@FunctionalInterface
+public interface OracleJsonBufferFunction<R, E extends Exception> {
+
+    /**
+     * Consume the encoded value.
+     *
+     * @param buffer A read-only buffer holding the encoded value
+     * @return The result
+     * @throws E If the value could not be consumed
+     */
+    R apply(@NonNull ByteBuffer buffer) throws E;
+}
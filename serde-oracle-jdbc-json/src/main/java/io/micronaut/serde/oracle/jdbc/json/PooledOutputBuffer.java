@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.oracle.jdbc.json;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.serde.support.util.BufferPool;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An unsynchronized, growable output buffer that is pooled between writes. Unlike
+ * {@link java.io.ByteArrayOutputStream}, the written bytes can be exposed as a
+ * {@link ByteBuffer} without copying them.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class PooledOutputBuffer extends OutputStream {
+    private static final int INITIAL_SIZE = 1024;
+    private static final BufferPool<PooledOutputBuffer> BUFFERS = new BufferPool<>(
+        PooledOutputBuffer::new,
+        buffer -> buffer.buf.length,
+        buffer -> buffer.count = 0
+    );
+
+    private byte[] buf = new byte[INITIAL_SIZE];
+    private int count;
+
+    private PooledOutputBuffer() {
+    }
+
+    /**
+     * Take a buffer out of the pool.
+     *
+     * @return An empty buffer
+     */
+    @NonNull
+    static PooledOutputBuffer acquire() {
+        return BUFFERS.acquire();
+    }
+
+    /**
+     * Return the buffer to the pool. The buffer, and any {@link ByteBuffer} view of it, must not
+     * be used afterwards.
+     */
+    void release() {
+        BUFFERS.release(this);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte @NonNull [] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+        }
+    }
+
+    /**
+     * @return A copy of the written bytes
+     */
+    byte @NonNull [] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @return A read-only view of the written bytes, only valid until the buffer is released
+     */
+    @NonNull
+    ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count).slice().asReadOnlyBuffer();
+    }
+}
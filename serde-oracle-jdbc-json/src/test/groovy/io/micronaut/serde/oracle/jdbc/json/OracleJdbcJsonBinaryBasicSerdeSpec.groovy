@@ -19,6 +19,7 @@ import oracle.jdbc.driver.json.tree.OracleJsonTimestampTZImpl
 import oracle.sql.json.OracleJsonFactory
 import oracle.sql.json.OracleJsonObject
 
+import java.nio.ByteBuffer
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets
 import java.time.Duration
@@ -141,6 +142,47 @@ class OracleJdbcJsonBinaryBasicSerdeSpec extends AbstractBasicSerdeSpec {
         json.contains("\"etag\":\"" + OracleJsonBinaryImpl.getString(etag.getBytes(Charset.defaultCharset()), false) + "\"")
     }
 
+    def 'read OSON from nio buffers'() {
+        given:
+        def type = Argument.mapOf(String, Integer)
+        def bytes = osonMapper.writeValueAsBytes(type, [a: 1, b: 2])
+        def direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+        def padded = new byte[bytes.length + 3]
+        System.arraycopy(bytes, 0, padded, 2, bytes.length)
+        def slice = ByteBuffer.wrap(padded, 2, bytes.length)
+
+        expect:
+        osonMapper.readValue(direct, type) == [a: 1, b: 2]
+        direct.position() == 0
+        osonMapper.readValue(slice, type) == [a: 1, b: 2]
+        slice.position() == 2
+    }
+
+    def 'write OSON into pooled buffers'() {
+        given:
+        def type = Argument.mapOf(String, String)
+        def large = [value: 'x' * 4096]
+        def small = [value: 'y']
+
+        when:
+        def first = osonMapper.writeValueAsBytes(type, large)
+        def second = osonMapper.writeValueAsBytes(type, small)
+
+        then:
+        osonMapper.readValue(first, type) == large
+        osonMapper.readValue(second, type) == small
+
+        when:
+        def read = osonMapper.writeValueToBuffer(type, small) { ByteBuffer buffer ->
+            assert buffer.isReadOnly()
+            assert buffer.remaining() == second.length
+            osonMapper.readValue(buffer, type)
+        }
+
+        then:
+        read == small
+    }
+
     @Override
     boolean jsonMatches(String result, String expected) {
         textJsonMapper.readValue(result, Map) == textJsonMapper.readValue(expected, Map)
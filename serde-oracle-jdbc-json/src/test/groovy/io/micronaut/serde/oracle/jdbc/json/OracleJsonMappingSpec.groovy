@@ -1,6 +1,7 @@
 package io.micronaut.serde.oracle.jdbc.json
 
 
+import io.micronaut.core.type.Argument
 import io.micronaut.serde.SerdeRegistry
 import io.micronaut.serde.bson.Address
 import io.micronaut.serde.bson.Person
@@ -37,6 +38,25 @@ class OracleJsonMappingSpec extends Specification {
             map.size() == 2
     }
 
+    def "test read values"() {
+        when:
+            def iterator = jsonMapper.readValues(new ByteArrayInputStream('[{"street": "High Street"}, null, {"town": "Springfield"}]'.bytes), Argument.of(Address))
+
+        then:
+            iterator.next().street == "High Street"
+            iterator.next() == null
+            iterator.next().town == "Springfield"
+            !iterator.hasNext()
+
+        when:
+            def bytes = osonMapper.writeValueAsBytes(new Address("Flat 1", "Main Street", "Springfield", "SP1 1AA"))
+            def values = osonMapper.readValues(new ByteArrayInputStream(bytes), Argument.of(Address)).stream().toList()
+
+        then:
+            values.size() == 1
+            values[0].street == "Main Street"
+    }
+
     def "validate mapping"() {
         given:
             def expectedJson = """{"_id":"12345","firstName":"John","surname":"Smith","addr":{"address":"The home","street":"Downstreet","town":"Paris","postcode":"123456"}}"""
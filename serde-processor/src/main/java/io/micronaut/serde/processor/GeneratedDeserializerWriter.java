@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.processor;
+
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ConstructorElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.serde.config.annotation.SerdeConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the source of a {@link io.micronaut.serde.GeneratedDeserializer} for a type annotated
+ * with {@link io.micronaut.serde.annotation.Serdeable#generated()}. The deserializer calls the
+ * primary constructor and then sets the remaining properties with direct setter calls or field
+ * assignments. Nothing is generated if the type is created by a factory method or a builder, or
+ * if a property can't be set directly, and deserialization uses the introspection as usual.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class GeneratedDeserializerWriter {
+    private static final String SUFFIX = "$Deserializer";
+
+    private final ClassElement element;
+    // the constructor parameters followed by the properties set after instantiation
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> parameterTypes = new ArrayList<>();
+    private final List<Property> properties = new ArrayList<>();
+    private final Set<String> ignoredKeys = new LinkedHashSet<>();
+
+    private GeneratedDeserializerWriter(ClassElement element) {
+        this.element = element;
+    }
+
+    /**
+     * Generate the deserializer and register it in the metadata of the type.
+     *
+     * @param element The type
+     * @param context The visitor context
+     */
+    static void generate(ClassElement element, VisitorContext context) {
+        GeneratedDeserializerWriter writer = create(element);
+        if (writer != null) {
+            String simpleName = GeneratedSources.simpleName(element, SUFFIX);
+            GeneratedSources.write(element, context, simpleName, packageName -> writer.write(packageName, simpleName), SerdeConfig.GENERATED_DESERIALIZER);
+        }
+    }
+
+    @Nullable
+    private static GeneratedDeserializerWriter create(ClassElement element) {
+        MethodElement creator = element.getPrimaryConstructor().orElse(null);
+        if (!(creator instanceof ConstructorElement) || creator.isPrivate()
+            || creator.stringValue(Creator.class, "mode").filter(mode -> mode.equals(SerdeConfig.SerCreatorMode.DELEGATING.name())).isPresent()) {
+            return null;
+        }
+        GeneratedDeserializerWriter writer = new GeneratedDeserializerWriter(element);
+        List<PropertyElement> beanProperties = element.getBeanProperties();
+        for (ParameterElement parameter : creator.getParameters()) {
+            List<Element> annotated = new ArrayList<>();
+            annotated.add(parameter);
+            for (PropertyElement property : beanProperties) {
+                if (property.getName().equals(parameter.getName())) {
+                    annotated.addAll(GeneratedSources.annotatedElements(property));
+                }
+            }
+            for (Element e : annotated) {
+                if (GeneratedSources.isCustomized(e)) {
+                    return null;
+                }
+            }
+            if (isIgnored(annotated)) {
+                return null;
+            }
+            writer.keys.add(GeneratedSources.resolveName(annotated, parameter.getName()));
+            writer.parameterTypes.add(GeneratedSources.typeName(parameter.getType()));
+        }
+        for (PropertyElement property : beanProperties) {
+            if (property.isReadOnly()) {
+                continue;
+            }
+            List<Element> annotated = GeneratedSources.annotatedElements(property);
+            String key = GeneratedSources.resolveName(annotated, property.getName());
+            if (writer.keys.subList(0, writer.parameterTypes.size()).contains(key)) {
+                // set by the constructor
+                continue;
+            }
+            if (isIgnored(annotated)) {
+                writer.ignoredKeys.add(key);
+                continue;
+            }
+            MethodElement writeMethod = property.getWriteMethod().orElse(null);
+            String writeStatement;
+            String type = GeneratedSources.typeName(property.getType());
+            if (writeMethod != null && !writeMethod.isPrivate() && !writeMethod.isStatic()) {
+                writeStatement = "value." + writeMethod.getName() + "((" + type + ") v)";
+            } else {
+                FieldElement field = property.getField().orElse(null);
+                if (field == null || field.isPrivate() || field.isStatic() || field.isFinal()) {
+                    return null;
+                }
+                writeStatement = "value." + field.getName() + " = (" + type + ") v";
+            }
+            writer.keys.add(key);
+            writer.properties.add(new Property(property.getName(), writeStatement));
+        }
+        writer.ignoredKeys.removeAll(writer.keys);
+        return writer;
+    }
+
+    private static boolean isIgnored(List<Element> annotated) {
+        return GeneratedSources.isFlagged(annotated, SerdeConfig.READ_ONLY)
+            || GeneratedSources.isFlagged(annotated, SerdeConfig.IGNORED)
+            || GeneratedSources.isFlagged(annotated, SerdeConfig.IGNORED_DESERIALIZATION);
+    }
+
+    private String write(String packageName, String simpleName) {
+        String beanType = element.getName().replace('$', '.');
+        int creatorSize = parameterTypes.size();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@io.micronaut.core.annotation.Generated\n")
+            .append("public final class ").append(simpleName)
+            .append(" implements io.micronaut.serde.GeneratedDeserializer<").append(beanType).append("> {\n")
+            .append("    private static final io.micronaut.serde.PropertyNameTable KEYS = io.micronaut.serde.PropertyNameTable.of(java.util.List.of(");
+        List<String> allKeys = new ArrayList<>(keys);
+        allKeys.addAll(ignoredKeys);
+        for (int i = 0; i < allKeys.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append(GeneratedSources.literal(allKeys.get(i)));
+        }
+        source.append("));\n")
+            .append("    private static final String[] PROPERTY_NAMES = {");
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append(GeneratedSources.literal(properties.get(i).name()));
+        }
+        source.append("};\n\n")
+            .append("    private final io.micronaut.serde.GeneratedDeserializer.PropertyReader properties;\n\n")
+            .append("    public ").append(simpleName).append("() {\n")
+            .append("        this(null);\n")
+            .append("    }\n\n")
+            .append("    private ").append(simpleName).append("(io.micronaut.serde.GeneratedDeserializer.PropertyReader properties) {\n")
+            .append("        this.properties = properties;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public io.micronaut.serde.GeneratedDeserializer<").append(beanType).append("> bind(io.micronaut.core.beans.BeanIntrospection<").append(beanType).append("> introspection,\n")
+            .append("            boolean ignoreUnknown, boolean failOnNullForPrimitives) {\n")
+            .append("        return new ").append(simpleName).append("(\n")
+            .append("            new io.micronaut.serde.GeneratedDeserializer.PropertyReader(introspection, KEYS, PROPERTY_NAMES, ignoreUnknown, failOnNullForPrimitives)\n")
+            .append("        );\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("    public ").append(beanType).append(" deserialize(io.micronaut.serde.Decoder decoder, io.micronaut.serde.Deserializer.DecoderContext context,\n")
+            .append("            io.micronaut.core.type.Argument<? super ").append(beanType).append("> type) throws java.io.IOException {\n")
+            .append("        Object[] values = properties.read(decoder, context, type);\n")
+            .append("        ").append(beanType).append(" value = new ").append(beanType).append("(");
+        for (int i = 0; i < creatorSize; i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append('(').append(parameterTypes.get(i)).append(") values[").append(i).append(']');
+        }
+        source.append(");\n");
+        if (!properties.isEmpty()) {
+            source.append("        set(value, values);\n");
+        }
+        source.append("        return value;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void deserializeInto(io.micronaut.serde.Decoder decoder, io.micronaut.serde.Deserializer.DecoderContext context,\n")
+            .append("            io.micronaut.core.type.Argument<? super ").append(beanType).append("> type, ").append(beanType).append(" value) throws java.io.IOException {\n");
+        if (creatorSize > 0) {
+            source.append("        throw new io.micronaut.serde.exceptions.SerdeException(\"Unsupported deserialize into for [\" + type + \"]\");\n");
+        } else if (properties.isEmpty()) {
+            source.append("        properties.read(decoder, context, type);\n");
+        } else {
+            source.append("        set(value, properties.read(decoder, context, type));\n");
+        }
+        source.append("    }\n");
+        if (!properties.isEmpty()) {
+            source.append('\n')
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    private static void set(").append(beanType).append(" value, Object[] values) {\n")
+                .append("        Object v;\n");
+            for (int i = 0; i < properties.size(); i++) {
+                source.append("        v = values[").append(creatorSize + i).append("];\n")
+                    .append("        if (v != io.micronaut.serde.GeneratedDeserializer.PropertyReader.ABSENT) {\n")
+                    .append("            ").append(properties.get(i).writeStatement()).append(";\n")
+                    .append("        }\n");
+            }
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * A property set after instantiation.
+     *
+     * @param name           The name of the bean property
+     * @param writeStatement The statement setting {@code v} on {@code value}
+     */
+    private record Property(String name, String writeStatement) {
+    }
+}
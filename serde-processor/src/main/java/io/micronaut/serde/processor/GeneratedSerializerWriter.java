@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.serde.config.annotation.SerdeConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes the source of a {@link io.micronaut.serde.GeneratedSerializer} for a type annotated with
+ * {@link io.micronaut.serde.annotation.Serdeable#generated()}. The serializer reads every
+ * property with a direct getter call or field access, and writes it under the name and with the
+ * inclusion rule resolved at compilation time. Nothing is generated if a property can't be read
+ * directly, and serialization uses the introspection as usual.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class GeneratedSerializerWriter {
+    private static final String SUFFIX = "$Serializer";
+
+    private final ClassElement element;
+    private final List<Property> properties = new ArrayList<>();
+
+    private GeneratedSerializerWriter(ClassElement element) {
+        this.element = element;
+    }
+
+    /**
+     * Generate the serializer and register it in the metadata of the type.
+     *
+     * @param element The type
+     * @param context The visitor context
+     */
+    static void generate(ClassElement element, VisitorContext context) {
+        GeneratedSerializerWriter writer = create(element);
+        if (writer != null) {
+            String simpleName = GeneratedSources.simpleName(element, SUFFIX);
+            GeneratedSources.write(element, context, simpleName, packageName -> writer.write(packageName, simpleName), SerdeConfig.GENERATED_SERIALIZER);
+        }
+    }
+
+    @Nullable
+    private static GeneratedSerializerWriter create(ClassElement element) {
+        List<ParameterElement> constructorParameters = element.getPrimaryConstructor()
+            .map(constructor -> List.of(constructor.getParameters()))
+            .orElse(List.of());
+        GeneratedSerializerWriter writer = new GeneratedSerializerWriter(element);
+        for (PropertyElement property : element.getBeanProperties()) {
+            List<Element> annotated = GeneratedSources.annotatedElements(property);
+            // records and constructor properties can also be annotated at the parameter
+            for (ParameterElement parameter : constructorParameters) {
+                if (parameter.getName().equals(property.getName())) {
+                    annotated.add(parameter);
+                }
+            }
+            if (property.isWriteOnly()
+                || GeneratedSources.isFlagged(annotated, SerdeConfig.IGNORED)
+                || GeneratedSources.isFlagged(annotated, SerdeConfig.IGNORED_SERIALIZATION)
+                || GeneratedSources.isFlagged(annotated, SerdeConfig.WRITE_ONLY)) {
+                continue;
+            }
+            MethodElement readMethod = property.getReadMethod().orElse(null);
+            String readExpression;
+            if (readMethod != null && !readMethod.isPrivate() && !readMethod.isStatic()) {
+                readExpression = "value." + readMethod.getName() + "()";
+            } else {
+                FieldElement field = property.getField().orElse(null);
+                if (field == null || field.isPrivate() || field.isStatic()) {
+                    return null;
+                }
+                readExpression = "value." + field.getName();
+            }
+            SerdeConfig.SerInclude include = null;
+            for (Element e : annotated) {
+                include = e.enumValue(SerdeConfig.class, SerdeConfig.INCLUDE, SerdeConfig.SerInclude.class).orElse(null);
+                if (include != null) {
+                    break;
+                }
+            }
+            if (include == null) {
+                include = element.enumValue(SerdeConfig.class, SerdeConfig.INCLUDE, SerdeConfig.SerInclude.class).orElse(null);
+            }
+            int order = 0;
+            for (Element e : annotated) {
+                if (e.hasAnnotation(Order.class)) {
+                    order = e.intValue(Order.class).orElse(0);
+                    break;
+                }
+            }
+            writer.properties.add(new Property(
+                property.getName(),
+                GeneratedSources.resolveName(annotated, property.getName()),
+                readExpression,
+                include,
+                order
+            ));
+        }
+        // same order as the introspection based serializer, the sort is stable
+        writer.properties.sort(Comparator.comparingInt(Property::order));
+        return writer;
+    }
+
+    private String write(String packageName, String simpleName) {
+        String beanType = element.getName().replace('$', '.');
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@io.micronaut.core.annotation.Generated\n")
+            .append("public final class ").append(simpleName)
+            .append(" implements io.micronaut.serde.GeneratedSerializer<").append(beanType).append("> {\n")
+            .append("    private static final String[] PROPERTY_NAMES = {");
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append(GeneratedSources.literal(properties.get(i).name()));
+        }
+        source.append("};\n");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append("    private static final io.micronaut.serde.EncodedKey KEY_").append(i)
+                .append(" = io.micronaut.serde.EncodedKey.of(").append(GeneratedSources.literal(properties.get(i).key())).append(");\n");
+        }
+        source.append('\n')
+            .append("    private final io.micronaut.serde.GeneratedSerializer.PropertySerializers properties;\n")
+            .append("    private final io.micronaut.serde.config.annotation.SerdeConfig.SerInclude[] includes;\n\n")
+            .append("    public ").append(simpleName).append("() {\n")
+            .append("        this(null, null);\n")
+            .append("    }\n\n")
+            .append("    private ").append(simpleName).append("(io.micronaut.serde.GeneratedSerializer.PropertySerializers properties,\n")
+            .append("            io.micronaut.serde.config.annotation.SerdeConfig.SerInclude[] includes) {\n")
+            .append("        this.properties = properties;\n")
+            .append("        this.includes = includes;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public io.micronaut.serde.GeneratedSerializer<").append(beanType).append("> bind(io.micronaut.core.beans.BeanIntrospection<").append(beanType).append("> introspection,\n")
+            .append("            io.micronaut.serde.config.annotation.SerdeConfig.SerInclude defaultInclusion) {\n")
+            .append("        return new ").append(simpleName).append("(\n")
+            .append("            new io.micronaut.serde.GeneratedSerializer.PropertySerializers(introspection, PROPERTY_NAMES),\n")
+            .append("            new io.micronaut.serde.config.annotation.SerdeConfig.SerInclude[] {");
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            SerdeConfig.SerInclude include = properties.get(i).include();
+            source.append(include == null ? "defaultInclusion" : "io.micronaut.serde.config.annotation.SerdeConfig.SerInclude." + include.name());
+        }
+        source.append("}\n")
+            .append("        );\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void serialize(io.micronaut.serde.Encoder encoder, io.micronaut.serde.Serializer.EncoderContext context,\n")
+            .append("            io.micronaut.core.type.Argument<? extends ").append(beanType).append("> type, ").append(beanType).append(" value) throws java.io.IOException {\n")
+            .append("        if (value == null) {\n")
+            .append("            encoder.encodeNull();\n")
+            .append("            return;\n")
+            .append("        }\n")
+            .append("        io.micronaut.serde.Encoder objectEncoder = encoder.encodeObject(type);\n")
+            .append("        serializeInto(objectEncoder, context, type, value);\n")
+            .append("        objectEncoder.finishStructure();\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void serializeInto(io.micronaut.serde.Encoder encoder, io.micronaut.serde.Serializer.EncoderContext context,\n")
+            .append("            io.micronaut.core.type.Argument<? extends ").append(beanType).append("> type, ").append(beanType).append(" value) throws java.io.IOException {\n");
+        if (!properties.isEmpty()) {
+            source.append("        io.micronaut.serde.Serializer<Object> s;\n")
+                .append("        Object v;\n");
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            source.append("        v = ").append(properties.get(i).readExpression()).append(";\n")
+                .append("        s = properties.serializer(context, ").append(i).append(");\n")
+                .append("        if (io.micronaut.serde.GeneratedSerializer.shouldInclude(includes[").append(i).append("], s, context, v)) {\n")
+                .append("            encoder.encodeKey(KEY_").append(i).append(");\n")
+                .append("            if (v == null) {\n")
+                .append("                encoder.encodeNull();\n")
+                .append("            } else {\n")
+                .append("                s.serialize(encoder, context, properties.argument(").append(i).append("), v);\n")
+                .append("            }\n")
+                .append("        }\n");
+        }
+        source.append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * A written property.
+     *
+     * @param name           The name of the bean property
+     * @param key            The name it is written under
+     * @param readExpression The expression reading it from {@code value}
+     * @param include        The inclusion rule or {@code null} for the default one
+     * @param order          The order
+     */
+    private record Property(String name,
+                            String key,
+                            String readExpression,
+                            @Nullable SerdeConfig.SerInclude include,
+                            int order) {
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.processor;
+
+import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import io.micronaut.serde.config.annotation.SerdeConfig;
+import io.micronaut.serde.config.naming.PropertyNamingStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared support for the serializers and deserializers generated for the types annotated with
+ * {@link io.micronaut.serde.annotation.Serdeable#generated()}. Nothing is generated for a type
+ * that relies on a customization the generated code doesn't implement, the introspection based
+ * implementation is used instead.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class GeneratedSources {
+    private static final String JK_PROP = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JK_VALUE = "com.fasterxml.jackson.annotation.JsonValue";
+    private static final String[] CUSTOMIZED_TYPE_MEMBERS = {
+        SerdeConfig.FILTER,
+        SerdeConfig.WRAPPER_PROPERTY,
+        SerdeConfig.ARRAY_WRAPPER_PROPERTY,
+        SerdeConfig.TYPE_PROPERTY,
+        SerdeConfig.TYPE_NAME,
+        SerdeConfig.TYPE_DISCRIMINATOR_TYPE,
+        SerdeConfig.RUNTIME_NAMING,
+        SerdeConfig.VIEWS
+    };
+    private static final String[] CUSTOMIZED_PROPERTY_MEMBERS = {
+        SerdeConfig.SERIALIZER_CLASS,
+        SerdeConfig.DESERIALIZER_CLASS,
+        SerdeConfig.SERIALIZE_AS,
+        SerdeConfig.DESERIALIZE_AS,
+        SerdeConfig.TYPE_PROPERTY,
+        SerdeConfig.RUNTIME_NAMING,
+        SerdeConfig.VIEWS,
+        SerdeConfig.ALIASES,
+        SerdeConfig.REQUIRED
+    };
+    private static final List<Class<?>> CUSTOMIZED_PROPERTY_ANNOTATIONS = List.of(
+        SerdeConfig.SerUnwrapped.class,
+        SerdeConfig.SerValue.class,
+        SerdeConfig.SerGetter.class,
+        SerdeConfig.SerAnyGetter.class,
+        SerdeConfig.SerSetter.class,
+        SerdeConfig.SerAnySetter.class,
+        SerdeConfig.SerManagedRef.class,
+        SerdeConfig.SerBackRef.class,
+        SerdeConfig.SerSubtyped.class
+    );
+
+    private GeneratedSources() {
+    }
+
+    /**
+     * Check whether code can be generated for a type.
+     *
+     * @param element The type
+     * @return Whether the type is supported
+     */
+    static boolean isSupported(ClassElement element) {
+        if (element.isAbstract() || element.isEnum() || element.isPrivate()
+            || !element.getDeclaredGenericPlaceholders().isEmpty()
+            || element.isInner() && !element.isStatic()) {
+            return false;
+        }
+        for (String member : CUSTOMIZED_TYPE_MEMBERS) {
+            if (element.isPresent(SerdeConfig.class, member)) {
+                return false;
+            }
+        }
+        if (element.booleanValue(SerdeConfig.class, SerdeConfig.STOP_WHEN_COMPLETE).orElse(false)
+            || element.isPresent(Introspected.class, "builder")
+            || element.hasAnnotation(SerdeConfig.SerSubtyped.class)
+            || element.stringValues(SerdeConfig.SerIgnored.class).length > 0
+            || element.hasAnnotation(SerdeConfig.SerIncluded.class)) {
+            return false;
+        }
+        String naming = element.stringValue(SerdeConfig.class, SerdeConfig.NAMING).orElse(null);
+        if (naming != null && !naming.equals(PropertyNamingStrategy.IDENTITY.getClass().getName())) {
+            return false;
+        }
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS.onlyInstance())) {
+            if (isCustomized(method)) {
+                return false;
+            }
+        }
+        for (PropertyElement property : element.getBeanProperties()) {
+            for (Element annotated : annotatedElements(property)) {
+                if (isCustomized(annotated)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param element A property, constructor parameter or method
+     * @return Whether the element needs a customization that is not supported by the generated code
+     */
+    static boolean isCustomized(Element element) {
+        for (String member : CUSTOMIZED_PROPERTY_MEMBERS) {
+            if (element.isPresent(SerdeConfig.class, member)) {
+                return true;
+            }
+        }
+        for (Class<?> annotation : CUSTOMIZED_PROPERTY_ANNOTATIONS) {
+            if (element.hasAnnotation(annotation.getName())) {
+                return true;
+            }
+        }
+        return element.hasAnnotation(JK_VALUE) || element.isPresent(Bindable.class, "defaultValue");
+    }
+
+    /**
+     * @param property The property
+     * @return The property and the elements it is made of
+     */
+    static List<Element> annotatedElements(PropertyElement property) {
+        List<Element> elements = new ArrayList<>(4);
+        elements.add(property);
+        property.getReadMethod().ifPresent(elements::add);
+        property.getWriteMethod().ifPresent(elements::add);
+        property.getField().ifPresent(elements::add);
+        return elements;
+    }
+
+    /**
+     * @param elements The annotated elements
+     * @param member   A boolean member of {@link SerdeConfig}
+     * @return Whether the member is set on any of the elements
+     */
+    static boolean isFlagged(List<? extends Element> elements, String member) {
+        for (Element element : elements) {
+            if (element.booleanValue(SerdeConfig.class, member).orElse(false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolve the name of a property like the introspection based implementation does when no
+     * naming strategy applies.
+     *
+     * @param elements The annotated elements, by precedence
+     * @param name     The name of the property
+     * @return The resolved name
+     */
+    static String resolveName(List<? extends Element> elements, String name) {
+        for (Element element : elements) {
+            Optional<String> value = element.stringValue(SerdeConfig.class, SerdeConfig.PROPERTY)
+                .or(() -> element.stringValue(JK_PROP))
+                .filter(s -> !s.isEmpty());
+            if (value.isPresent()) {
+                return value.get();
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @param type A type
+     * @return The name of the type in source code, without type arguments
+     */
+    static String typeName(ClassElement type) {
+        return type.getName().replace('$', '.') + "[]".repeat(type.getArrayDimensions());
+    }
+
+    /**
+     * @param value A string
+     * @return The string as a Java literal
+     */
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"', '\\' -> literal.append('\\').append(c);
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Write a generated class and register it in the metadata of the type. The class is
+     * registered as an instantiated class value, so the metadata creates the instance without
+     * reflection.
+     *
+     * @param element    The type
+     * @param context    The visitor context
+     * @param simpleName The simple name of the generated class
+     * @param source     The writer of the source, given the package name
+     * @param member     The {@link SerdeConfig} member to register the class under
+     */
+    static void write(ClassElement element,
+                      VisitorContext context,
+                      String simpleName,
+                      SourceWriter source,
+                      String member) {
+        String packageName = element.getPackageName();
+        GeneratedFile file = context.visitGeneratedSourceFile(packageName, simpleName, element).orElse(null);
+        if (file == null) {
+            // not supported by this compiler (groovy)
+            return;
+        }
+        try (Writer out = file.openWriter()) {
+            out.write(source.write(packageName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String className = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        element.annotate(SerdeConfig.class, builder ->
+            builder.member(member, new AnnotationClassValue<>(className, true))
+        );
+    }
+
+    /**
+     * @param element The type
+     * @param suffix  The suffix of the generated class
+     * @return The simple name of the generated class
+     */
+    static String simpleName(ClassElement element, String suffix) {
+        return "$" + element.getSimpleName().replace('$', '_') + suffix;
+    }
+
+    /**
+     * Writes the source of a generated class.
+     */
+    @FunctionalInterface
+    interface SourceWriter {
+        /**
+         * @param packageName The package of the generated class
+         * @return The source
+         */
+        String write(String packageName);
+    }
+}
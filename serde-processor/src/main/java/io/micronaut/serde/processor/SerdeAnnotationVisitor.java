@@ -584,6 +584,26 @@ public class SerdeAnnotationVisitor implements TypeElementVisitor<SerdeConfig, S
         resetForNewClass(element);
         checkForErrors(element, context);
         visitClassInternal(element, context, false);
+        if (isGenerated(element) && GeneratedSources.isSupported(element)) {
+            boolean serializable = element.hasAnnotation(Serdeable.Serializable.class);
+            boolean deserializable = element.hasAnnotation(Serdeable.Deserializable.class);
+            // @Serdeable or @SerdeConfig(generated = true) generate both
+            boolean both = element.hasAnnotation(Serdeable.class) || serializable == deserializable;
+            if (both || serializable) {
+                GeneratedSerializerWriter.generate(element, context);
+            }
+            if (both || deserializable) {
+                GeneratedDeserializerWriter.generate(element, context);
+            }
+        }
+    }
+
+    private boolean isGenerated(ClassElement element) {
+        return element.booleanValue(SerdeConfig.class, SerdeConfig.GENERATED)
+            .or(() -> element.booleanValue(Serdeable.class, SerdeConfig.GENERATED))
+            .or(() -> element.booleanValue(Serdeable.Serializable.class, SerdeConfig.GENERATED))
+            .or(() -> element.booleanValue(Serdeable.Deserializable.class, SerdeConfig.GENERATED))
+            .orElse(false);
     }
 
     private void visitClassSubtypes(ClassElement supertype, VisitorContext context) {
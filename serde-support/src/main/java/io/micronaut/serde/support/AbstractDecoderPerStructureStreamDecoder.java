@@ -18,6 +18,7 @@ package io.micronaut.serde.support;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.exceptions.SerdeException;
 
 import java.io.IOException;
@@ -94,6 +95,12 @@ public abstract class AbstractDecoderPerStructureStreamDecoder extends AbstractS
         return super.decodeKey();
     }
 
+    @Override
+    public final int decodeKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        checkChild();
+        return super.decodeKeyIndex(table, expectedIndex);
+    }
+
     @Override
     protected AbstractStreamDecoder decodeArray0(TokenType currentToken) throws IOException {
         super.decodeArray0(currentToken);
@@ -22,7 +22,8 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.json.tree.JsonNode;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.LimitingStream;
-import io.micronaut.serde.support.util.JsonNodeDecoder;
+import io.micronaut.serde.PropertyNameTable;
+import io.micronaut.serde.support.util.TokenBufferDecoder;
 import io.micronaut.serde.util.BinaryCodecUtil;
 
 import java.io.IOException;
@@ -177,6 +178,9 @@ public abstract class AbstractStreamDecoder extends LimitingStream implements De
 
     /**
      * Get the current object field name. Only called for {@link TokenType#KEY}.
+     * When {@link #getCurrentKeyIndex(PropertyNameTable, int)} does not resolve the key,
+     * the same key is read again by {@link #decodeKey()}. Decoders that can read a name
+     * only once must keep it until the next token.
      * @return The current field key
      * @throws java.io.IOException if an unrecoverable error occurs
      */
@@ -198,6 +202,45 @@ public abstract class AbstractStreamDecoder extends LimitingStream implements De
         return fieldName;
     }
 
+    /**
+     * Resolve the current object field name against the given table. Only called for
+     * {@link TokenType#KEY}. The default implementation compares the {@link #getCurrentKey()}
+     * and does not allocate when the decoder already holds the key as a string, as the buffered
+     * and BSON decoders do. Decoders that can compare the raw input should override this method.
+     *
+     * @param table         The known property names
+     * @param expectedIndex The position of the key that is expected next or {@code -1}
+     * @return The position of the key in the table or {@code -1}
+     * @throws java.io.IOException if an unrecoverable error occurs
+     * @since 2.12.0
+     */
+    protected int getCurrentKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        String fieldName = getCurrentKey();
+        if (expectedIndex >= 0 && expectedIndex < table.size() && table.getName(expectedIndex).equals(fieldName)) {
+            return expectedIndex;
+        }
+        return table.indexOf(fieldName);
+    }
+
+    @Override
+    public int decodeKeyIndex(@NonNull PropertyNameTable table, int expectedIndex) throws IOException {
+        TokenType currentToken = currentToken();
+        if (currentToken == TokenType.END_OBJECT) {
+            // stay on the end token, will be handled in finishStructure
+            return PropertyNameTable.NO_MORE_KEYS;
+        }
+        if (currentToken != TokenType.KEY) {
+            throw new IllegalStateException("Not at a field name");
+        }
+        int index = getCurrentKeyIndex(table, expectedIndex);
+        if (index < 0) {
+            // stay on the key, will be read by decodeKey
+            return PropertyNameTable.UNRESOLVED;
+        }
+        nextToken();
+        return index;
+    }
+
     @NonNull
     @Override
     public final Decoder decodeArray(Argument<?> type) throws IOException {
@@ -749,8 +792,51 @@ public abstract class AbstractStreamDecoder extends LimitingStream implements De
 
     @Override
     public Decoder decodeBuffer() throws IOException {
-        JsonNode node = decodeNode();
-        return JsonNodeDecoder.create(node, ourLimits());
+        TokenBufferDecoder.Builder buffer = TokenBufferDecoder.builder();
+        bufferValue(buffer);
+        return buffer.build(ourLimits());
+    }
+
+    private void bufferValue(TokenBufferDecoder.Builder buffer) throws IOException {
+        TokenType currentToken = currentToken();
+        switch (currentToken) {
+            case START_OBJECT -> {
+                AbstractStreamDecoder elementDecoder = (AbstractStreamDecoder) decodeObject();
+                buffer.startObject();
+                while (true) {
+                    String key = elementDecoder.decodeKey();
+                    if (key == null) {
+                        break;
+                    }
+                    buffer.key(key);
+                    elementDecoder.bufferValue(buffer);
+                }
+                elementDecoder.finishStructure();
+                buffer.endObject();
+            }
+            case START_ARRAY -> {
+                AbstractStreamDecoder elementDecoder = (AbstractStreamDecoder) decodeArray();
+                buffer.startArray();
+                while (elementDecoder.hasNextArrayValue()) {
+                    elementDecoder.bufferValue(buffer);
+                }
+                elementDecoder.finishStructure();
+                buffer.endArray();
+            }
+            case STRING, OTHER -> buffer.string(decodeString()); // handle other as string
+            case NUMBER -> {
+                preDecodeValue(currentToken);
+                buffer.number(getBestNumber());
+                nextToken();
+            }
+            case BOOLEAN -> buffer.bool(decodeBoolean());
+            case NULL -> {
+                decodeNull();
+                buffer.nullValue();
+            }
+            default ->
+                throw createDeserializationException("Unexpected token " + currentToken + ", expected value", null);
+        }
     }
 
     @NonNull
@@ -22,6 +22,7 @@ import io.micronaut.core.annotation.AnnotationMetadataProvider;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospectionReference;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.beans.exceptions.IntrospectionException;
 import io.micronaut.core.order.OrderUtil;
@@ -37,10 +38,14 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -56,6 +61,7 @@ import java.util.stream.Collectors;
 public class DefaultSerdeIntrospections implements SerdeIntrospections {
 
     private final Set<String> serdePackages;
+    private volatile IntrospectionIndex introspectionIndex;
 
     @Inject
     public DefaultSerdeIntrospections(SerdeConfiguration configuration) {
@@ -70,13 +76,9 @@ public class DefaultSerdeIntrospections implements SerdeIntrospections {
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public <T> Collection<BeanIntrospection<? extends T>> findSubtypeDeserializables(Class<T> type) {
-        return (List) getBeanIntrospector().findIntrospections(ref -> {
-                if (ref.isPresent()) {
-                    final Class<?> bt = ref.getBeanType();
-                    return bt != type && type.isAssignableFrom(bt);
-                }
-                return false;
-            }).stream().filter(bi -> isEnabledForDeserialization(bi, bi.getGenericBeanType()))
+        return (List) getIntrospectionIndex().findSubtypes(type).stream()
+            .map(BeanIntrospectionReference::load)
+            .filter(bi -> isEnabledForDeserialization(bi, bi.getGenericBeanType()))
             .collect(Collectors.toList());
     }
 
@@ -94,9 +96,10 @@ public class DefaultSerdeIntrospections implements SerdeIntrospections {
         }
         if (result == null) {
 
-            final Collection<BeanIntrospection<Object>> candidates =
-                    beanIntrospector.findIntrospections(reference -> reference.isPresent() &&
-                            reference.getBeanType().isAssignableFrom(type.getType()) && isEnabledForSerialization(reference, type));
+            final List<BeanIntrospection<?>> candidates = getIntrospectionIndex().findSupertypes(type.getType()).stream()
+                    .filter(reference -> isEnabledForSerialization(reference, type))
+                    .<BeanIntrospection<?>>map(BeanIntrospectionReference::load)
+                    .toList();
             if (CollectionUtils.isNotEmpty(candidates)) {
                 if (candidates.size() == 1) {
                     result = (BeanIntrospection<T>) candidates.iterator().next();
@@ -112,6 +115,20 @@ public class DefaultSerdeIntrospections implements SerdeIntrospections {
         }
     }
 
+    private IntrospectionIndex getIntrospectionIndex() {
+        IntrospectionIndex index = introspectionIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = introspectionIndex;
+                if (index == null) {
+                    index = new IntrospectionIndex(getBeanIntrospector());
+                    introspectionIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
     /**
      * Resolves an introspection for the purpose of serialization.
      * @param type The type
@@ -251,4 +268,72 @@ public class DefaultSerdeIntrospections implements SerdeIntrospections {
                 ).orElse(true);
     }
 
+    /**
+     * Index of the present introspection references by bean type and by each supertype of the
+     * bean type, built once from a single pass over the references. Subtype and supertype
+     * lookups only touch the matching references instead of testing every introspection on the
+     * classpath. The references are not loaded while building the index.
+     */
+    private static final class IntrospectionIndex {
+        private final List<BeanIntrospectionReference<?>> references = new ArrayList<>();
+        private final Map<Class<?>, BitSet> byType = new HashMap<>();
+        // references by each of their (strict) supertypes
+        private final Map<Class<?>, BitSet> bySupertype = new HashMap<>();
+
+        IntrospectionIndex(BeanIntrospector beanIntrospector) {
+            beanIntrospector.findIntrospections(reference -> {
+                if (reference.isPresent()) {
+                    add(reference);
+                }
+                // only collect the references, nothing needs to be loaded
+                return false;
+            });
+        }
+
+        private void add(BeanIntrospectionReference<?> reference) {
+            int index = references.size();
+            references.add(reference);
+            Class<?> beanType = reference.getBeanType();
+            byType.computeIfAbsent(beanType, t -> new BitSet()).set(index);
+            TypeHierarchy.forEachSupertype(beanType, supertype -> {
+                if (supertype != beanType) {
+                    bySupertype.computeIfAbsent(supertype, t -> new BitSet()).set(index);
+                }
+            });
+        }
+
+        /**
+         * @param type The type
+         * @return The references of the strict subtypes of the given type
+         */
+        List<BeanIntrospectionReference<?>> findSubtypes(Class<?> type) {
+            return toReferences(bySupertype.get(type));
+        }
+
+        /**
+         * @param type The type
+         * @return The references of the given type and of its supertypes
+         */
+        List<BeanIntrospectionReference<?>> findSupertypes(Class<?> type) {
+            BitSet matches = new BitSet();
+            TypeHierarchy.forEachSupertype(type, supertype -> {
+                BitSet sametype = byType.get(supertype);
+                if (sametype != null) {
+                    matches.or(sametype);
+                }
+            });
+            return toReferences(matches);
+        }
+
+        private List<BeanIntrospectionReference<?>> toReferences(BitSet positions) {
+            if (positions == null || positions.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<BeanIntrospectionReference<?>> result = new ArrayList<>(positions.cardinality());
+            for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+                result.add(references.get(i));
+            }
+            return result;
+        }
+    }
 }
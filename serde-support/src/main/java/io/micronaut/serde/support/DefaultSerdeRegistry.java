@@ -28,6 +28,7 @@ import io.micronaut.core.annotation.Order;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.BeanDefinition;
@@ -46,6 +47,7 @@ import io.micronaut.serde.exceptions.SerdeException;
 import io.micronaut.serde.support.deserializers.ObjectDeserializer;
 import io.micronaut.serde.support.deserializers.SerdeDeserializationPreInstantiateCallback;
 import io.micronaut.serde.support.deserializers.collect.CoreCollectionsDeserializers;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
 import io.micronaut.serde.support.serdes.ObjectArraySerde;
 import io.micronaut.serde.support.serdes.Serdes;
 import io.micronaut.serde.support.serializers.CoreSerializers;
@@ -60,7 +62,10 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -234,6 +239,11 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     // a wrapper object.
     private final Map<TypeKey, SerializerWrapper> serializerMap = new ConcurrentHashMap<>(50);
     private final Map<TypeKey, Deserializer<?>> deserializerMap = new ConcurrentHashMap<>(50);
+    // fast path for arguments without type parameters, avoids allocating a TypeKey per lookup
+    private final RawTypeCache<SerializerWrapper> rawSerializerCache = new RawTypeCache<>();
+    private final RawTypeCache<Deserializer<?>> rawDeserializerCache = new RawTypeCache<>();
+    private final TypeIndex<Serializer> serializerIndex;
+    private final TypeIndex<Deserializer> deserializerIndex;
 
     private final BeanContext beanContext;
     private final SerdeIntrospections introspections;
@@ -244,6 +254,7 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     private final SerdeConfiguration serdeConfiguration;
     private final SerializationConfiguration serializationConfiguration;
     private final DeserializationConfiguration deserializationConfiguration;
+    private final SerdeMetrics metrics;
 
     /**
      * Default constructor.
@@ -280,9 +291,12 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
 
         registerSerializersDeserializersFromBeanContext(beanContext);
         registerBuiltInSerdes();
+        this.serializerIndex = new TypeIndex<>(serializers, Serializer.class);
+        this.deserializerIndex = new TypeIndex<>(deserializers, Deserializer.class);
 
         this.objectSerializer = objectSerializer;
         this.objectDeserializer = objectDeserializer;
+        this.metrics = SerdeMetrics.NOOP;
     }
 
     /**
@@ -312,16 +326,21 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
 
         registerSerializersDeserializersFromBeanContext(beanContext);
         registerBuiltInSerdes();
+        this.serializerIndex = new TypeIndex<>(serializers, Serializer.class);
+        this.deserializerIndex = new TypeIndex<>(deserializers, Deserializer.class);
 
+        this.metrics = beanContext == null ? SerdeMetrics.NOOP : beanContext.findBean(SerdeMetrics.class).orElse(SerdeMetrics.NOOP);
         this.objectSerializer = new ObjectSerializer(
             introspections,
             serdeConfiguration,
             serializationConfiguration,
-            beanContext);
+            beanContext,
+            metrics);
         this.objectDeserializer = new ObjectDeserializer(introspections,
             deserializationConfiguration,
             serdeConfiguration,
-            beanContext == null ? null : beanContext.findBean(SerdeDeserializationPreInstantiateCallback.class).orElse(null)
+            beanContext == null ? null : beanContext.findBean(SerdeDeserializationPreInstantiateCallback.class).orElse(null),
+            metrics
         );
         this.objectArraySerde = new ObjectArraySerde();
     }
@@ -456,10 +475,12 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     @Override
     public <T> Deserializer<? extends T> findDeserializer(Argument<? extends T> type) throws SerdeException {
         Objects.requireNonNull(type, "Type cannot be null");
-        final TypeKey key = new TypeKey(type);
-        final Deserializer<?> deserializer = deserializerMap.get(key);
-        if (deserializer != null) {
-            return (Deserializer<? extends T>) deserializer;
+        final boolean raw = type.getTypeParameters().length == 0;
+        if (raw) {
+            final Deserializer<?> deserializer = rawDeserializerCache.get(type.getType());
+            if (deserializer != null) {
+                return (Deserializer<? extends T>) deserializer;
+            }
         }
         if (type.getType().equals(Object.class)) {
             return (Deserializer<? extends T>) objectDeserializer;
@@ -467,25 +488,28 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         if (type.getType().equals(Object[].class)) {
             return (Deserializer<? extends T>) objectArraySerde;
         }
+        final TypeKey key = new TypeKey(type);
+        final Deserializer<?> deserializer = deserializerMap.get(key);
+        if (deserializer != null) {
+            return (Deserializer<? extends T>) deserializer;
+        }
 
         Collection<BeanDefinition<Deserializer>> beanDefinitions = MatchArgumentQualifier.covariant(Deserializer.class, type)
-            .filter(Deserializer.class, deserializers);
+            .filter(Deserializer.class, deserializerIndex.candidates(type.getType()));
         Deserializer<?> deser = null;
         if (beanDefinitions.size() == 1) {
             deser = getBean(beanDefinitions.iterator().next());
         } else if (!beanDefinitions.isEmpty()) {
             deser = getBean(lastChanceResolveDeserializer(type, beanDefinitions));
         }
-        if (deser != null) {
-            deserializerMap.put(key, deser);
-            return (Deserializer<? extends T>) deser;
+        if (deser == null) {
+            deser = key.getType().isArray() ? objectArraySerde : objectDeserializer;
         }
-        if (key.getType().isArray()) {
-            deserializerMap.put(key, objectArraySerde);
-            return (Deserializer<? extends T>) objectArraySerde;
+        deserializerMap.put(key, deser);
+        if (raw) {
+            rawDeserializerCache.put(type.getType(), deser);
         }
-        deserializerMap.put(key, objectDeserializer);
-        return (Deserializer<? extends T>) objectDeserializer;
+        return (Deserializer<? extends T>) deser;
     }
 
     private <T> T getBean(BeanDefinition<T> definition) {
@@ -503,10 +527,12 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     @Override
     public <T> Serializer<? super T> findSerializer(Argument<? extends T> type) throws SerdeException {
         Objects.requireNonNull(type, "Type cannot be null");
-        final TypeKey key = new TypeKey(type);
-        SerializerWrapper wrapper = serializerMap.get(key);
-        if (wrapper != null) {
-            return (Serializer<? super T>) wrapper.serializer;
+        final boolean raw = type.getTypeParameters().length == 0;
+        if (raw) {
+            SerializerWrapper wrapper = rawSerializerCache.get(type.getType());
+            if (wrapper != null) {
+                return (Serializer<? super T>) wrapper.serializer;
+            }
         }
         if (type.getType().equals(Object.class)) {
             return objectSerializer;
@@ -514,9 +540,14 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         if (type.getType().equals(Object[].class)) {
             return (Serializer<? super T>) objectArraySerde;
         }
+        final TypeKey key = new TypeKey(type);
+        SerializerWrapper wrapper = serializerMap.get(key);
+        if (wrapper != null) {
+            return (Serializer<? super T>) wrapper.serializer;
+        }
 
         Collection<BeanDefinition<Serializer>> beanDefinitions = MatchArgumentQualifier.contravariant(Serializer.class, type)
-            .filter(Serializer.class, serializers);
+            .filter(Serializer.class, serializerIndex.candidates(type.getType()));
         Serializer<?> ser = null;
         if (beanDefinitions.size() == 1) {
             ser = getBean(beanDefinitions.iterator().next());
@@ -524,16 +555,15 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
             BeanDefinition<Serializer> definition = lastChanceResolveSerializer(type, beanDefinitions);
             ser = getBean(definition);
         }
-        if (ser != null) {
-            serializerMap.put(key, new SerializerWrapper(ser));
-            return (Serializer<? super T>) ser;
+        if (ser == null) {
+            ser = key.getType().isArray() ? objectArraySerde : objectSerializer;
         }
-        if (key.getType().isArray()) {
-            serializerMap.put(key, new SerializerWrapper(objectArraySerde));
-            return (Serializer<? super T>) objectArraySerde;
+        wrapper = new SerializerWrapper(ser);
+        serializerMap.put(key, wrapper);
+        if (raw) {
+            rawSerializerCache.put(type.getType(), wrapper);
         }
-        serializerMap.put(key, new SerializerWrapper(objectSerializer));
-        return objectSerializer;
+        return (Serializer<? super T>) ser;
     }
 
     @NonNull
@@ -641,6 +671,16 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
         return serdeConfiguration;
     }
 
+    /**
+     * @return The metrics of the serializers and deserializers created by this registry
+     * @since 2.12.0
+     */
+    @Internal
+    @NonNull
+    public final SerdeMetrics getMetrics() {
+        return metrics;
+    }
+
     @Internal
     final SerializationConfiguration getSerializationConfiguration() {
         return serializationConfiguration;
@@ -720,4 +760,94 @@ public class DefaultSerdeRegistry implements SerdeRegistry {
     // Prevent type check thrashing
     private record SerializerWrapper(Serializer<?> serializer) {
     }
+
+    /**
+     * Copy-on-write identity map from raw class to a cached value. Reads are lock-free and don't
+     * allocate, writes copy the map, which is fine since the number of distinct types is bounded.
+     *
+     * @param <V> The value type
+     */
+    private static final class RawTypeCache<V> {
+        private volatile Map<Class<?>, V> map = new IdentityHashMap<>();
+
+        @Nullable
+        V get(Class<?> type) {
+            return map.get(type);
+        }
+
+        synchronized void put(Class<?> type, V value) {
+            if (map.get(type) == value) {
+                return;
+            }
+            Map<Class<?>, V> copy = new IdentityHashMap<>(map);
+            copy.put(type, value);
+            map = copy;
+        }
+    }
+
+    /**
+     * Index of the serializer or deserializer bean definitions by the raw type they handle. Only
+     * definitions whose type is a subtype or a supertype of the requested type can match, so
+     * lookups use the index to avoid running {@link MatchArgumentQualifier} over all the
+     * definitions. Definitions the index can't classify are always candidates.
+     *
+     * @param <B> The bean type
+     */
+    private static final class TypeIndex<B> {
+        private final List<BeanDefinition<B>> definitions;
+        // definitions by their own type
+        private final Map<Class<?>, BitSet> byType = new HashMap<>();
+        // definitions by each of their (strict) supertypes
+        private final Map<Class<?>, BitSet> bySupertype = new HashMap<>();
+        private final BitSet always = new BitSet();
+
+        TypeIndex(List<BeanDefinition<B>> definitions, Class<?> beanType) {
+            this.definitions = definitions;
+            for (int i = 0; i < definitions.size(); i++) {
+                List<Argument<?>> typeArguments = definitions.get(i).getTypeArguments(beanType);
+                Class<?> type = typeArguments.isEmpty() ? Object.class : ReflectionUtils.getWrapperType(typeArguments.get(0).getType());
+                if (type == Object.class || type.isArray()) {
+                    always.set(i);
+                    continue;
+                }
+                byType.computeIfAbsent(type, t -> new BitSet()).set(i);
+                int index = i;
+                TypeHierarchy.forEachSupertype(type, supertype -> {
+                    if (supertype != type) {
+                        bySupertype.computeIfAbsent(supertype, t -> new BitSet()).set(index);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Find the definitions that may match the given type, in registration order.
+         *
+         * @param type The requested type
+         * @return The candidates
+         */
+        Collection<BeanDefinition<B>> candidates(Class<?> type) {
+            if (type.isArray()) {
+                // arrays are covariant, keep the full scan
+                return definitions;
+            }
+            Class<?> wrapperType = ReflectionUtils.getWrapperType(type);
+            BitSet matches = (BitSet) always.clone();
+            BitSet subtypes = bySupertype.get(wrapperType);
+            if (subtypes != null) {
+                matches.or(subtypes);
+            }
+            TypeHierarchy.forEachSupertype(wrapperType, supertype -> {
+                BitSet sametype = byType.get(supertype);
+                if (sametype != null) {
+                    matches.or(sametype);
+                }
+            });
+            List<BeanDefinition<B>> candidates = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                candidates.add(definitions.get(i));
+            }
+            return candidates;
+        }
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.beans.BeanIntrospectionReference;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.SerdeIntrospections;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.support.config.SerdeWarmupConfiguration;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves the serializers and deserializers of all the {@link Serdeable} types in parallel when
+ * the application starts, so that the first requests don't pay for building them. Enabled with
+ * {@code micronaut.serde.warmup.enabled}.
+ *
+ * @since 2.12.0
+ */
+@Internal
+@Singleton
+@Requires(property = SerdeWarmupConfiguration.ENABLED, value = StringUtils.TRUE)
+public final class SerdeWarmup implements ApplicationEventListener<StartupEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(SerdeWarmup.class);
+
+    private final SerdeRegistry registry;
+    private final SerdeIntrospections introspections;
+    private final SerdeWarmupConfiguration configuration;
+
+    SerdeWarmup(SerdeRegistry registry, SerdeIntrospections introspections, SerdeWarmupConfiguration configuration) {
+        this.registry = registry;
+        this.introspections = introspections;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        Result result = warmup();
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Prepared {} serializers and {} deserializers for {} types in {}ms ({} failed)",
+                result.serializers(), result.deserializers(), result.types(), result.duration().toMillis(), result.failures());
+        }
+    }
+
+    /**
+     * Resolve the serializers and deserializers of all the matching types, blocking until done.
+     *
+     * @return The outcome of the warmup
+     */
+    @NonNull
+    public Result warmup() {
+        long start = System.nanoTime();
+        List<BeanIntrospectionReference<?>> references = findReferences();
+        AtomicInteger serializers = new AtomicInteger();
+        AtomicInteger deserializers = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        int parallelism = configuration.getParallelism() > 0 ? configuration.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, references.size())), runnable -> {
+            Thread thread = new Thread(runnable, "serde-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Serializer.EncoderContext encoderContext = registry.newEncoderContext(null);
+            Deserializer.DecoderContext decoderContext = registry.newDecoderContext(null);
+            List<Future<?>> futures = new ArrayList<>(references.size());
+            for (BeanIntrospectionReference<?> reference : references) {
+                futures.add(executor.submit(() -> {
+                    if (!prepare(reference, encoderContext, decoderContext, serializers, deserializers)) {
+                        failures.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.debug("Serde warmup failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(references.size(), serializers.get(), deserializers.get(), failures.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<BeanIntrospectionReference<?>> findReferences() {
+        List<BeanIntrospectionReference<?>> references = new ArrayList<>();
+        introspections.getBeanIntrospector().findIntrospections(reference -> {
+            if (reference.isPresent() && matchesPackage(reference.getName())) {
+                AnnotationMetadata annotationMetadata = reference.getAnnotationMetadata();
+                if (annotationMetadata.hasStereotype(Serdeable.Serializable.class) || annotationMetadata.hasStereotype(Serdeable.Deserializable.class)) {
+                    references.add(reference);
+                }
+            }
+            // only collect the references, they are loaded by the warmup threads
+            return false;
+        });
+        return references;
+    }
+
+    private boolean matchesPackage(String className) {
+        List<String> packages = configuration.getPackages();
+        if (packages.isEmpty()) {
+            return true;
+        }
+        for (String p : packages) {
+            if (className.startsWith(p) && (className.length() == p.length() || className.charAt(p.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean prepare(BeanIntrospectionReference<?> reference,
+                            Serializer.EncoderContext encoderContext,
+                            Deserializer.DecoderContext decoderContext,
+                            AtomicInteger serializers,
+                            AtomicInteger deserializers) {
+        try {
+            Class<?> beanType = reference.getBeanType();
+            if (beanType.getTypeParameters().length > 0) {
+                // generic types are resolved per parameterization on first use
+                return true;
+            }
+            Argument<Object> type = (Argument<Object>) Argument.of(beanType);
+            AnnotationMetadata annotationMetadata = reference.getAnnotationMetadata();
+            if (annotationMetadata.hasStereotype(Serdeable.Serializable.class)) {
+                registry.findSerializer(type).createSpecific(encoderContext, type);
+                serializers.incrementAndGet();
+            }
+            if (annotationMetadata.hasStereotype(Serdeable.Deserializable.class)) {
+                registry.findDeserializer(type).createSpecific(decoderContext, type);
+                deserializers.incrementAndGet();
+            }
+            return true;
+        } catch (Exception | LinkageError e) {
+            // leave it to the lazy path to report the error on first use
+            LOG.debug("Failed to prepare serde for type {}", reference.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * The outcome of a warmup.
+     *
+     * @param types         The number of matching types
+     * @param serializers   The number of prepared serializers
+     * @param deserializers The number of prepared deserializers
+     * @param failures      The number of types that failed, and will be resolved lazily
+     * @param duration      The time the warmup took
+     */
+    public record Result(int types, int serializers, int deserializers, int failures, @NonNull Duration duration) {
+    }
+}
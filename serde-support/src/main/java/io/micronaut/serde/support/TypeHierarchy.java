@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Utility for walking the type hierarchy of a class, used to build the type indexes of
+ * {@link DefaultSerdeRegistry} and {@link DefaultSerdeIntrospections}.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class TypeHierarchy {
+    private TypeHierarchy() {
+    }
+
+    /**
+     * Visit the given type, its superclasses and all the interfaces it implements, once each.
+     *
+     * @param type     The type
+     * @param consumer The visitor
+     */
+    static void forEachSupertype(Class<?> type, Consumer<Class<?>> consumer) {
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> next = queue.poll();
+            if (!visited.add(next)) {
+                continue;
+            }
+            consumer.accept(next);
+            if (next.getSuperclass() != null) {
+                queue.add(next.getSuperclass());
+            }
+            Collections.addAll(queue, next.getInterfaces());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.config;
+
+import io.micronaut.context.annotation.ConfigurationInject;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.config.SerdeConfiguration;
+
+/**
+ * Configuration of the built-in {@link io.micronaut.serde.support.metrics.SerdeMetrics}
+ * implementation.
+ *
+ * @since 2.12.0
+ */
+@ConfigurationProperties(SerdeMetricsConfiguration.PREFIX)
+public final class SerdeMetricsConfiguration {
+    public static final String PREFIX = SerdeConfiguration.PREFIX + ".metrics";
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    private final boolean enabled;
+    private final boolean allocations;
+
+    @ConfigurationInject
+    SerdeMetricsConfiguration(@Bindable(defaultValue = StringUtils.FALSE) boolean enabled,
+                              @Bindable(defaultValue = StringUtils.FALSE) boolean allocations) {
+        this.enabled = enabled;
+        this.allocations = allocations;
+    }
+
+    /**
+     * @return Whether to record the metrics of the introspected types. Defaults to {@code false}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Whether to also record the bytes allocated per type, if the JVM supports it.
+     * Defaults to {@code false}.
+     */
+    public boolean isAllocations() {
+        return allocations;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.config;
+
+import io.micronaut.context.annotation.ConfigurationInject;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.config.SerdeConfiguration;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of the eager warmup of the serializers and deserializers of the
+ * {@link io.micronaut.serde.annotation.Serdeable} types at startup. By default, serializers and
+ * deserializers are resolved lazily on first use.
+ *
+ * @since 2.12.0
+ */
+@ConfigurationProperties(SerdeWarmupConfiguration.PREFIX)
+public final class SerdeWarmupConfiguration {
+    public static final String PREFIX = SerdeConfiguration.PREFIX + ".warmup";
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    private final boolean enabled;
+    private final List<String> packages;
+    private final int parallelism;
+
+    @ConfigurationInject
+    SerdeWarmupConfiguration(@Bindable(defaultValue = StringUtils.FALSE) boolean enabled,
+                             @Nullable List<String> packages,
+                             @Bindable(defaultValue = "0") int parallelism) {
+        this.enabled = enabled;
+        this.packages = packages == null ? Collections.emptyList() : packages;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return Whether to resolve the serializers and deserializers of all serdeable types at
+     * startup. Defaults to {@code false}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The packages of the types to warm up, including their sub packages. All types are
+     * warmed up if empty.
+     */
+    @NonNull
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @return The number of threads used for the warmup. Defaults to the number of available
+     * processors if not positive.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -37,6 +37,7 @@ import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
@@ -44,6 +45,7 @@ import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.InvalidFormatException;
 import io.micronaut.serde.exceptions.InvalidPropertyFormatException;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.BeanGraphInitializer;
 import io.micronaut.serde.support.util.SerdeAnnotationUtil;
 import io.micronaut.serde.support.util.SerdeArgumentConf;
 import io.micronaut.serde.support.util.SubtypeInfo;
@@ -54,6 +56,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,7 +64,6 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -95,6 +97,12 @@ final class DeserBean<T> {
     public final Set<String> ignoredProperties;
     @Nullable
     public final Set<String> externalProperties;
+    /**
+     * The names of the creator parameters, the properties and the ignored properties,
+     * to be resolved with {@link Decoder#decodeKeyIndex(PropertyNameTable, int)}.
+     */
+    @NonNull
+    public final PropertyNameTable keyTable;
     @Nullable
     public final boolean isJsonValueProperty;
 
@@ -102,6 +110,7 @@ final class DeserBean<T> {
     public final int injectPropertiesSize;
 
     public final boolean ignoreUnknown;
+    public final boolean stopWhenComplete;
     public final boolean failOnNullForPrimitives;
     public final boolean delegating;
     public final boolean simpleBean;
@@ -113,7 +122,6 @@ final class DeserBean<T> {
     private final Map<String, Argument<?>> bounds;
 
     private volatile boolean initialized;
-    private volatile boolean initializing;
 
     // CHECKSTYLE:ON
 
@@ -157,6 +165,9 @@ final class DeserBean<T> {
         DeserializationConfiguration deserializationConfiguration = decoderContext.getDeserializationConfiguration().orElse(defaultDeserializationConfiguration);
         this.ignoreUnknown = hasIncludedProperties || introspection.booleanValue(SerdeConfig.SerIgnored.class, SerdeConfig.SerIgnored.IGNORE_UNKNOWN)
             .orElse(deserializationConfiguration.isIgnoreUnknown());
+        Boolean argumentStopWhenComplete = serdeArgumentConf == null ? null : serdeArgumentConf.getStopWhenComplete();
+        this.stopWhenComplete = argumentStopWhenComplete != null ? argumentStopWhenComplete
+            : introspection.booleanValue(SerdeConfig.class, SerdeConfig.STOP_WHEN_COMPLETE).orElse(false);
         this.failOnNullForPrimitives = deserializationConfiguration.isFailOnNullForPrimitives();
 
         final PropertiesBag.Builder<T> creatorPropertiesBuilder = new PropertiesBag.Builder<>(introspection, constructorArguments.length);
@@ -428,6 +439,7 @@ final class DeserBean<T> {
         } else {
             this.externalProperties = externalProperties;
         }
+        keyTable = createKeyTable(creatorParams, injectProperties, this.ignoredProperties);
 
         isJsonValueProperty = jsonValueMethod != null || jsonValueProperty != null;
 
@@ -435,20 +447,9 @@ final class DeserBean<T> {
         recordLikeBean = isRecordLikeBean();
     }
 
-    void initialize(ReentrantLock lock, Deserializer.DecoderContext decoderContext) throws SerdeException {
-        // Double check locking
+    void initialize(Deserializer.DecoderContext decoderContext) throws SerdeException {
         if (!initialized) {
-            lock.lock();
-            try {
-                if (!initialized && !initializing) {
-                    initializing = true;
-                    initializeInternal(decoderContext);
-                    initialized = true;
-                    initializing = false;
-                }
-            } finally {
-                lock.unlock();
-            }
+            BeanGraphInitializer.initialize(this, () -> initializeInternal(decoderContext), () -> initialized = true);
         }
     }
 
@@ -463,8 +464,13 @@ final class DeserBean<T> {
                 initProperty(property, decoderContext);
             }
         }
-        if (anySetter != null) {
-            anySetter.deserializer = anySetter.valueType.equalsType(Argument.OBJECT_ARGUMENT) ? null : findDeserializer(decoderContext, anySetter.valueType);
+        if (anySetter != null && !anySetter.valueType.equalsType(Argument.OBJECT_ARGUMENT)) {
+            Deserializer<?> deserializer = findDeserializer(decoderContext, anySetter.valueType);
+            synchronized (this) {
+                if (anySetter.deserializer == null) {
+                    anySetter.deserializer = deserializer;
+                }
+            }
         }
         if (unwrappedProperties != null) {
             for (DerProperty<T, Object> unwrappedProperty : unwrappedProperties) {
@@ -473,6 +479,28 @@ final class DeserBean<T> {
         }
     }
 
+    private static PropertyNameTable createKeyTable(@Nullable PropertiesBag<?> creatorParams,
+                                                    @Nullable PropertiesBag<?> injectProperties,
+                                                    @Nullable Set<String> ignoredProperties) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (creatorParams != null) {
+            PropertyNameTable table = creatorParams.getKeyTable();
+            for (int i = 0; i < table.size(); i++) {
+                keys.add(table.getName(i));
+            }
+        }
+        if (injectProperties != null) {
+            PropertyNameTable table = injectProperties.getKeyTable();
+            for (int i = 0; i < table.size(); i++) {
+                keys.add(table.getName(i));
+            }
+        }
+        if (ignoredProperties != null) {
+            keys.addAll(ignoredProperties);
+        }
+        return PropertyNameTable.of(keys);
+    }
+
     private boolean isSimpleBean() {
         if (isJsonValueProperty || ignoredProperties != null || externalProperties != null || delegating || subtypeInfo != null || creatorParams != null || creatorUnwrapped != null || unwrappedProperties != null || anySetter != null) {
             return false;
@@ -503,7 +531,13 @@ final class DeserBean<T> {
 
     private void initProperty(DerProperty<T, Object> property, Deserializer.DecoderContext decoderContext) throws SerdeException {
         if (!property.ignored) {
-            property.deserializer = findDeserializer(decoderContext, property.argument);
+            Deserializer<Object> deserializer = findDeserializer(decoderContext, property.argument);
+            synchronized (this) {
+                // another thread might have resolved the property concurrently
+                if (property.deserializer == null) {
+                    property.deserializer = deserializer;
+                }
+            }
         }
     }
 
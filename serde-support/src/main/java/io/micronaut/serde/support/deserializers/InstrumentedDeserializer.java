@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.deserializers;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
+import io.micronaut.serde.support.metrics.ThreadAllocation;
+
+import java.io.IOException;
+
+/**
+ * The {@link Deserializer} recording {@link SerdeMetrics}.
+ *
+ * @param <T> The deserializer type
+ * @since 2.12.0
+ */
+@Internal
+class InstrumentedDeserializer<T> implements Deserializer<T> {
+
+    final SerdeMetrics.TypeRecorder recorder;
+    final boolean allocationTracked;
+    private final Deserializer<T> deserializer;
+
+    InstrumentedDeserializer(Deserializer<T> deserializer, SerdeMetrics.TypeRecorder recorder) {
+        this.deserializer = deserializer;
+        this.recorder = recorder;
+        this.allocationTracked = recorder.isAllocationTracked();
+    }
+
+    @Override
+    public Deserializer<T> createSpecific(DecoderContext context, Argument<? super T> type) throws SerdeException {
+        return deserializer.createSpecific(context, type);
+    }
+
+    @Override
+    public T deserialize(Decoder decoder, DecoderContext context, Argument<? super T> type) throws IOException {
+        long allocated = allocationTracked ? ThreadAllocation.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            T value = deserializer.deserialize(decoder, context, type);
+            error = false;
+            return value;
+        } finally {
+            record(start, allocated, error);
+        }
+    }
+
+    @Override
+    public T deserializeNullable(Decoder decoder, DecoderContext context, Argument<? super T> type) throws IOException {
+        long allocated = allocationTracked ? ThreadAllocation.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            T value = deserializer.deserializeNullable(decoder, context, type);
+            error = false;
+            return value;
+        } finally {
+            record(start, allocated, error);
+        }
+    }
+
+    final void record(long start, long allocated, boolean error) {
+        long duration = System.nanoTime() - start;
+        recorder.record(duration, allocationTracked ? ThreadAllocation.allocatedBytes() - allocated : 0, error);
+    }
+
+    @Override
+    public boolean allowNull() {
+        return deserializer.allowNull();
+    }
+
+    @Override
+    public T getDefaultValue(DecoderContext context, Argument<? super T> type) {
+        return deserializer.getDefaultValue(context, type);
+    }
+}
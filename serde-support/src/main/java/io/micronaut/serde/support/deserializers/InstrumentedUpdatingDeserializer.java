@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.deserializers;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.UpdatingDeserializer;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
+import io.micronaut.serde.support.metrics.ThreadAllocation;
+
+import java.io.IOException;
+
+/**
+ * The {@link UpdatingDeserializer} recording {@link SerdeMetrics}.
+ *
+ * @param <T> The deserializer type
+ * @since 2.12.0
+ */
+@Internal
+final class InstrumentedUpdatingDeserializer<T> extends InstrumentedDeserializer<T> implements UpdatingDeserializer<T> {
+
+    private final UpdatingDeserializer<T> deserializer;
+
+    InstrumentedUpdatingDeserializer(UpdatingDeserializer<T> deserializer, SerdeMetrics.TypeRecorder recorder) {
+        super(deserializer, recorder);
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public void deserializeInto(Decoder decoder, DecoderContext decoderContext, Argument<? super T> type, T value) throws IOException {
+        long allocated = allocationTracked ? ThreadAllocation.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            deserializer.deserializeInto(decoder, decoderContext, type, value);
+            error = false;
+        } finally {
+            record(start, allocated, error);
+        }
+    }
+}
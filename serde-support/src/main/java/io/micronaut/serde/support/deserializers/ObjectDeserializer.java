@@ -15,6 +15,7 @@
  */
 package io.micronaut.serde.support.deserializers;
 
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
@@ -24,18 +25,21 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.GeneratedDeserializer;
 import io.micronaut.serde.SerdeIntrospections;
 import io.micronaut.serde.UpdatingDeserializer;
 import io.micronaut.serde.config.DeserializationConfiguration;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
 import io.micronaut.serde.support.util.SerdeArgumentConf;
+import io.micronaut.serde.support.util.SubtypeInfo;
 import io.micronaut.serde.util.CustomizableDeserializer;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -48,21 +52,38 @@ import java.util.function.Supplier;
 public class ObjectDeserializer implements CustomizableDeserializer<Object>, DeserBeanRegistry {
     private final SerdeIntrospections introspections;
     private final Map<DeserBeanKey, Supplier<DeserBean<?>>> deserBeanMap = new ConcurrentHashMap<>(50);
+    private final Map<DeserBeanKey, Optional<Deserializer<Object>>> generatedDeserializers = new ConcurrentHashMap<>();
     private final DeserializationConfiguration deserializationConfiguration;
     private final SerdeConfiguration serdeConfiguration;
     @Nullable
     private final SerdeDeserializationPreInstantiateCallback preInstantiateCallback;
-
-    private final ReentrantLock lock = new ReentrantLock();
+    private final SerdeMetrics metrics;
 
     public ObjectDeserializer(SerdeIntrospections introspections,
                               DeserializationConfiguration deserializationConfiguration,
                               SerdeConfiguration serdeConfiguration,
                               @Nullable SerdeDeserializationPreInstantiateCallback preInstantiateCallback) {
+        this(introspections, deserializationConfiguration, serdeConfiguration, preInstantiateCallback, SerdeMetrics.NOOP);
+    }
+
+    /**
+     * @param introspections               The introspections
+     * @param deserializationConfiguration The deserialization configuration
+     * @param serdeConfiguration           The serde configuration
+     * @param preInstantiateCallback       The pre instantiate callback
+     * @param metrics                      The metrics
+     * @since 2.12.0
+     */
+    public ObjectDeserializer(SerdeIntrospections introspections,
+                              DeserializationConfiguration deserializationConfiguration,
+                              SerdeConfiguration serdeConfiguration,
+                              @Nullable SerdeDeserializationPreInstantiateCallback preInstantiateCallback,
+                              SerdeMetrics metrics) {
         this.introspections = introspections;
         this.deserializationConfiguration = deserializationConfiguration;
         this.serdeConfiguration = serdeConfiguration;
         this.preInstantiateCallback = preInstantiateCallback;
+        this.metrics = metrics;
     }
 
     /**
@@ -79,6 +100,7 @@ public class ObjectDeserializer implements CustomizableDeserializer<Object>, Des
         this.deserializationConfiguration = deserializationConfiguration;
         this.serdeConfiguration = null;
         this.preInstantiateCallback = preInstantiateCallback;
+        this.metrics = SerdeMetrics.NOOP;
     }
 
     @Override
@@ -87,6 +109,10 @@ public class ObjectDeserializer implements CustomizableDeserializer<Object>, Des
             // fallback to dynamic resolution
             return (Decoder decoder, DecoderContext context1, Argument<? super Object> type1) -> decoder.decodeArbitrary();
         }
+        Deserializer<Object> generated = findGeneratedDeserializer(type, context);
+        if (generated != null) {
+            return generated;
+        }
         DeserBean<? super Object> deserBean = getDeserializableBean(type, context);
 
         if (deserBean.subtypeInfo != null) {
@@ -143,10 +169,78 @@ public class ObjectDeserializer implements CustomizableDeserializer<Object>, Des
                 deserBean.ignoreUnknown
             );
         }
+        return instrument(deserializer, deserBean.introspection.asArgument());
+    }
+
+    private Deserializer<Object> instrument(Deserializer<Object> deserializer, Argument<?> beanType) {
         if (deserializer instanceof UpdatingDeserializer<Object> updatingDeserializer) {
-            return new ErrorCatchingUpdatingDeserializer<>(updatingDeserializer);
+            deserializer = new ErrorCatchingUpdatingDeserializer<>(updatingDeserializer);
+        } else {
+            deserializer = new ErrorCatchingDeserializer<>(deserializer);
+        }
+        SerdeMetrics.TypeRecorder recorder = metrics.deserializerRecorder(beanType);
+        if (recorder != null) {
+            if (deserializer instanceof UpdatingDeserializer<Object> updatingDeserializer) {
+                return new InstrumentedUpdatingDeserializer<>(updatingDeserializer, recorder);
+            }
+            return new InstrumentedDeserializer<>(deserializer, recorder);
+        }
+        return deserializer;
+    }
+
+    /**
+     * Find the deserializer generated at compilation time for a type. The generated deserializer
+     * resolves the property names at compilation time and instantiates the type directly, so it
+     * is not used when the argument or the context customizes the properties, or when the
+     * instantiation is intercepted or checked.
+     *
+     * @param type    The type
+     * @param context The decoder context
+     * @return The bound deserializer or {@code null} if there is no usable generated deserializer
+     */
+    @Nullable
+    private Deserializer<Object> findGeneratedDeserializer(Argument<? super Object> type, DecoderContext context) {
+        SerdeArgumentConf serdeArgumentConf = type.getAnnotationMetadata().isEmpty() ?
+            null : new SerdeArgumentConf(type.getAnnotationMetadata());
+        if (serdeArgumentConf != null && !serdeArgumentConf.isEmpty()
+            || preInstantiateCallback != null
+            || context.getSerdeConfiguration().map(SerdeConfiguration::getPropertyNamingStrategy).isPresent()) {
+            return null;
+        }
+        DeserializationConfiguration configuration = context.getDeserializationConfiguration().orElse(deserializationConfiguration);
+        if (configuration.isStrictNullable()) {
+            return null;
         }
-        return new ErrorCatchingDeserializer<>(deserializer);
+        DeserBeanKey key = new DeserBeanKey(
+            context.getSerdeConfiguration().orElse(serdeConfiguration),
+            configuration,
+            type,
+            serdeArgumentConf
+        );
+        return generatedDeserializers.computeIfAbsent(key, ignore -> {
+            BeanIntrospection<Object> introspection;
+            try {
+                introspection = (BeanIntrospection<Object>) introspections.getDeserializableIntrospection(type);
+            } catch (IntrospectionException e) {
+                return Optional.empty();
+            }
+            if (introspection.hasBuilder() || SubtypeInfo.createForType(introspection) != null) {
+                return Optional.empty();
+            }
+            Object instance = introspection.getValue(SerdeConfig.class, SerdeConfig.GENERATED_DESERIALIZER, AnnotationClassValue.class)
+                .flatMap(AnnotationClassValue::getInstance)
+                .orElse(null);
+            if (instance instanceof GeneratedDeserializer<?> generated) {
+                GeneratedDeserializer<Object> bound = ((GeneratedDeserializer<Object>) generated).bind(
+                    introspection,
+                    introspection.booleanValue(SerdeConfig.SerIgnored.class, SerdeConfig.SerIgnored.IGNORE_UNKNOWN)
+                        .orElse(configuration.isIgnoreUnknown()),
+                    configuration.isFailOnNullForPrimitives()
+                );
+                return Optional.of(instrument(bound, introspection.asArgument()));
+            }
+            return Optional.empty();
+        }).orElse(null);
     }
 
     @Override
@@ -162,7 +256,7 @@ public class ObjectDeserializer implements CustomizableDeserializer<Object>, Des
         // Use suppliers to prevent recursive update because the lambda can call the same method again
         Supplier<DeserBean<?>> deserBeanSupplier = deserBeanMap.computeIfAbsent(key, ignore -> SupplierUtil.memoizedNonEmpty(() -> createDeserBean(type, serdeArgumentConf, decoderContext)));
         DeserBean<?> deserBean = deserBeanSupplier.get();
-        deserBean.initialize(lock, decoderContext);
+        deserBean.initialize(decoderContext);
         return (DeserBean<T>) deserBean;
     }
 
@@ -21,11 +21,13 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.naming.Named;
 import io.micronaut.core.util.StringIntMap;
+import io.micronaut.serde.PropertyNameTable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +53,8 @@ final class PropertiesBag<T> {
     private final Map<String, Integer> nameToPropertiesMapping;
     private final long propertiesMask;
     private final StringIntMap nameToPosition;
+    private final PropertyNameTable keyTable;
+    private final int[] keyToPosition;
 
     private PropertiesBag(BeanIntrospection<T> beanIntrospection,
                           int[] originalNameToPropertiesMapping,
@@ -71,8 +75,20 @@ final class PropertiesBag<T> {
         }
         Set<String> props = propStream.collect(Collectors.toSet());
         nameToPosition = new StringIntMap(props.size());
+        List<String> keys = new ArrayList<>(props.size());
         for (String prop : props) {
-            nameToPosition.put(prop, propertyIndexOfSlow(prop));
+            int position = propertyIndexOfSlow(prop);
+            nameToPosition.put(prop, position);
+            if (position != -1) {
+                keys.add(prop);
+            }
+        }
+        // keep the keys in property order, so that the next key can be predicted
+        keys.sort(Comparator.comparingInt((String key) -> nameToPosition.get(key, -1)).thenComparing(Comparator.naturalOrder()));
+        keyTable = PropertyNameTable.of(keys);
+        keyToPosition = new int[keys.size()];
+        for (int i = 0; i < keyToPosition.length; i++) {
+            keyToPosition[i] = nameToPosition.get(keys.get(i), -1);
         }
     }
 
@@ -111,6 +127,16 @@ final class PropertiesBag<T> {
         return properties;
     }
 
+    /**
+     * The table of all the names that resolve to a property, to be used with
+     * {@link io.micronaut.serde.Decoder#decodeKeyIndex(PropertyNameTable, int)}.
+     *
+     * @return The key table
+     */
+    PropertyNameTable getKeyTable() {
+        return keyTable;
+    }
+
     int propertyIndexOf(@NonNull String name) {
         return nameToPosition.get(name, -1);
     }
@@ -147,6 +173,21 @@ final class PropertiesBag<T> {
             return properties[propertyIndex];
         }
 
+        /**
+         * Consume the property of a key resolved against the {@link #getKeyTable() key table}.
+         *
+         * @param keyIndex The position of the key in the key table
+         * @return The property or {@code null} if it was already consumed
+         */
+        public DeserBean.DerProperty<T, Object> consumeKey(int keyIndex) {
+            int propertyIndex = keyToPosition[keyIndex];
+            if (isConsumed(propertyIndex)) {
+                return null;
+            }
+            setConsumed(propertyIndex);
+            return properties[propertyIndex];
+        }
+
         public void consume(int propertyIndex) {
             if (propertyIndex == -1 || isConsumed(propertyIndex)) {
                 return;
@@ -24,6 +24,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.UpdatingDeserializer;
 import io.micronaut.serde.exceptions.SerdeException;
 
@@ -38,6 +39,7 @@ import java.io.IOException;
 @Internal
 final class SimpleObjectDeserializer implements Deserializer<Object>, UpdatingDeserializer<Object> {
     private final boolean ignoreUnknown;
+    private final boolean stopWhenComplete;
     private final boolean strictNullable;
     private final BeanIntrospection<Object> introspection;
     private final PropertiesBag<Object> properties;
@@ -48,6 +50,7 @@ final class SimpleObjectDeserializer implements Deserializer<Object>, UpdatingDe
                              DeserBean<? super Object> deserBean,
                              @Nullable SerdeDeserializationPreInstantiateCallback preInstantiateCallback) {
         this.ignoreUnknown = deserBean.ignoreUnknown;
+        this.stopWhenComplete = deserBean.stopWhenComplete;
         this.strictNullable = strictNullable;
         this.introspection = deserBean.introspection;
         this.properties = deserBean.injectProperties;
@@ -87,15 +90,33 @@ final class SimpleObjectDeserializer implements Deserializer<Object>, UpdatingDe
 
         if (properties != null) {
             PropertiesBag<Object>.Consumer propertiesConsumer = properties.newConsumer();
+            PropertyNameTable keyTable = properties.getKeyTable();
 
             boolean allConsumed = false;
+            int expectedKey = 0;
             while (!allConsumed) {
-                final String prop = objectDecoder.decodeKey();
-                if (prop == null) {
+                // when unknown properties are ignored, let the decoder skip them in a format specific way
+                final int keyIndex = ignoreUnknown
+                    ? objectDecoder.decodeKnownKeyIndex(keyTable, expectedKey)
+                    : objectDecoder.decodeKeyIndex(keyTable, expectedKey);
+                if (keyIndex == PropertyNameTable.NO_MORE_KEYS) {
                     completed = true;
                     break;
                 }
-                final DeserBean.DerProperty<Object, Object> consumedProperty = propertiesConsumer.consume(prop);
+                final String prop;
+                final DeserBean.DerProperty<Object, Object> consumedProperty;
+                if (keyIndex == PropertyNameTable.UNRESOLVED) {
+                    prop = objectDecoder.decodeKey();
+                    if (prop == null) {
+                        completed = true;
+                        break;
+                    }
+                    consumedProperty = propertiesConsumer.consume(prop);
+                } else {
+                    prop = keyTable.getName(keyIndex);
+                    consumedProperty = propertiesConsumer.consumeKey(keyIndex);
+                    expectedKey = keyIndex + 1;
+                }
                 if (consumedProperty != null) {
                     consumedProperty.deserializeAndSetPropertyValue(objectDecoder, decoderContext, beanInstance);
                     allConsumed = propertiesConsumer.isAllConsumed();
@@ -116,7 +137,7 @@ final class SimpleObjectDeserializer implements Deserializer<Object>, UpdatingDe
 
         if (completed) {
             objectDecoder.finishStructure();
-        } else if (ignoreUnknown) {
+        } else if (ignoreUnknown || stopWhenComplete) {
             objectDecoder.finishStructure(true);
         } else {
             String unknownProp = objectDecoder.decodeKey();
@@ -23,6 +23,7 @@ import io.micronaut.core.reflect.exception.InstantiationException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.serde.Decoder;
 import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.UpdatingDeserializer;
 import io.micronaut.serde.exceptions.SerdeException;
 
@@ -59,13 +60,30 @@ final class SimpleRecordLikeObjectDeserializer implements Deserializer<Object>,
         final Decoder objectDecoder = decoder.decodeObject(beanType);
         final PropertiesBag<Object>.Consumer creatorParameters = constructorParameters.newConsumer();
         final Object[] params = new Object[valuesSize];
+        final PropertyNameTable keyTable = constructorParameters.getKeyTable();
         boolean allConsumed = valuesSize == 0;
+        int expectedKey = 0;
         while (!allConsumed) {
-            final String propertyName = objectDecoder.decodeKey();
-            if (propertyName == null) {
+            // when unknown properties are ignored, let the decoder skip them in a format specific way
+            final int keyIndex = ignoreUnknown
+                ? objectDecoder.decodeKnownKeyIndex(keyTable, expectedKey)
+                : objectDecoder.decodeKeyIndex(keyTable, expectedKey);
+            if (keyIndex == PropertyNameTable.NO_MORE_KEYS) {
                 break;
             }
-            final DeserBean.DerProperty<Object, Object> derProperty = creatorParameters.consume(propertyName);
+            final String propertyName;
+            final DeserBean.DerProperty<Object, Object> derProperty;
+            if (keyIndex == PropertyNameTable.UNRESOLVED) {
+                propertyName = objectDecoder.decodeKey();
+                if (propertyName == null) {
+                    break;
+                }
+                derProperty = creatorParameters.consume(propertyName);
+            } else {
+                propertyName = keyTable.getName(keyIndex);
+                derProperty = creatorParameters.consumeKey(keyIndex);
+                expectedKey = keyIndex + 1;
+            }
             if (derProperty != null) {
                 derProperty.deserializeAndSetConstructorValue(objectDecoder, decoderContext, params);
                 allConsumed = creatorParameters.isAllConsumed();
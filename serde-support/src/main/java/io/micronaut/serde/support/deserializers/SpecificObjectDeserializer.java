@@ -23,6 +23,7 @@ import io.micronaut.core.reflect.exception.InstantiationException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.serde.Decoder;
+import io.micronaut.serde.PropertyNameTable;
 import io.micronaut.serde.UpdatingDeserializer;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.InvalidFormatException;
@@ -99,8 +100,20 @@ final class SpecificObjectDeserializer implements UpdatingDeserializer<Object> {
 
         Object instance = null;
         boolean completed = false;
+        PropertyNameTable keyTable = deserBean.keyTable;
+        int expectedKey = 0;
         while (true) {
-            final String propertyName = objectDecoder.decodeKey();
+            // known keys resolve to the interned table names, only unresolved ones are read as a string
+            final int keyIndex = objectDecoder.decodeKeyIndex(keyTable, expectedKey);
+            final String propertyName;
+            if (keyIndex == PropertyNameTable.UNRESOLVED) {
+                propertyName = objectDecoder.decodeKey();
+            } else if (keyIndex == PropertyNameTable.NO_MORE_KEYS) {
+                propertyName = null;
+            } else {
+                propertyName = keyTable.getName(keyIndex);
+                expectedKey = keyIndex + 1;
+            }
             if (propertyName == null) {
                 completed = true;
                 break;
@@ -122,7 +135,8 @@ final class SpecificObjectDeserializer implements UpdatingDeserializer<Object> {
         if (instance == null) {
             instance = beanDeserializer.provideInstance(decoderContext);
         }
-        if (deserBean.ignoreUnknown) {
+        if (deserBean.ignoreUnknown || deserBean.stopWhenComplete) {
+            // all properties are consumed or unknown ones are ignored, let the decoder skip the rest
             objectDecoder.finishStructure(true);
         } else {
             if (deserBean.ignoredProperties != null && !completed) {
@@ -150,12 +164,22 @@ final class SpecificObjectDeserializer implements UpdatingDeserializer<Object> {
             Object instance = null;
             boolean completed = false;
             Iterator<Map.Entry<String, Decoder>> cacheIterator = null;
+            PropertyNameTable keyTable = deserBean.keyTable;
+            int expectedKey = 0;
             while (true) {
                 Decoder objectDecoder = rootObjectDecoder;
 
                 final String propertyName;
                 if (cacheIterator == null || !cacheIterator.hasNext()) {
-                    propertyName = objectDecoder.decodeKey();
+                    final int keyIndex = objectDecoder.decodeKeyIndex(keyTable, expectedKey);
+                    if (keyIndex == PropertyNameTable.UNRESOLVED) {
+                        propertyName = objectDecoder.decodeKey();
+                    } else if (keyIndex == PropertyNameTable.NO_MORE_KEYS) {
+                        propertyName = null;
+                    } else {
+                        propertyName = keyTable.getName(keyIndex);
+                        expectedKey = keyIndex + 1;
+                    }
                     if (propertyName == null) {
                         completed = true;
                         break;
@@ -206,7 +230,7 @@ final class SpecificObjectDeserializer implements UpdatingDeserializer<Object> {
             if (instance == null) {
                 instance = beanDeserializer.provideInstance(decoderContext);
             }
-            if (deserBean.ignoreUnknown) {
+            if (deserBean.ignoreUnknown || deserBean.stopWhenComplete) {
                 rootObjectDecoder.finishStructure(true);
             } else {
                 if (deserBean.ignoredProperties != null && !completed) {
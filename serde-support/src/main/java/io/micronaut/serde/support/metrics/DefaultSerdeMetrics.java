@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.metrics;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.serde.support.config.SerdeMetricsConfiguration;
+import io.micronaut.serde.support.util.TypeKey;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link SerdeMetrics} that aggregates the metrics per type in memory, enabled with
+ * {@code micronaut.serde.metrics.enabled}.
+ * <p>
+ * The statistics are monotonic counters, so they can be bound to a meter registry without
+ * copying, e.g. with Micrometer:
+ * <pre>{@code
+ * metrics.addListener(statistics -> {
+ *     Tags tags = Tags.of("type", statistics.getType().getTypeString(false), "operation", statistics.getOperation().name());
+ *     FunctionTimer.builder("serde.time", statistics, TypeStatistics::getCount, TypeStatistics::getTotalTimeNanos, TimeUnit.NANOSECONDS).tags(tags).register(registry);
+ *     FunctionCounter.builder("serde.errors", statistics, TypeStatistics::getErrors).tags(tags).register(registry);
+ *     FunctionCounter.builder("serde.bytes", statistics, TypeStatistics::getBytes).tags(tags).register(registry);
+ * });
+ * }</pre>
+ *
+ * @since 2.12.0
+ */
+@Experimental
+@Singleton
+@Requires(property = SerdeMetricsConfiguration.ENABLED, value = StringUtils.TRUE)
+public final class DefaultSerdeMetrics implements SerdeMetrics {
+    private final boolean allocations;
+    private final Map<TypeKey, TypeStatistics> serialization = new ConcurrentHashMap<>();
+    private final Map<TypeKey, TypeStatistics> deserialization = new ConcurrentHashMap<>();
+    private final List<Consumer<TypeStatistics>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param configuration The configuration
+     */
+    public DefaultSerdeMetrics(SerdeMetricsConfiguration configuration) {
+        this.allocations = configuration.isAllocations() && ThreadAllocation.isSupported();
+    }
+
+    @Override
+    public TypeRecorder serializerRecorder(@NonNull Argument<?> type) {
+        return statistics(serialization, type, Operation.SERIALIZE);
+    }
+
+    @Override
+    public TypeRecorder deserializerRecorder(@NonNull Argument<?> type) {
+        return statistics(deserialization, type, Operation.DESERIALIZE);
+    }
+
+    private TypeStatistics statistics(Map<TypeKey, TypeStatistics> map, Argument<?> type, Operation operation) {
+        TypeKey key = new TypeKey(type);
+        TypeStatistics statistics = map.get(key);
+        if (statistics != null) {
+            return statistics;
+        }
+        TypeStatistics created = new TypeStatistics(type, operation, allocations);
+        statistics = map.putIfAbsent(key, created);
+        if (statistics != null) {
+            return statistics;
+        }
+        for (Consumer<TypeStatistics> listener : listeners) {
+            listener.accept(created);
+        }
+        return created;
+    }
+
+    /**
+     * Register a listener notified of the statistics of every type recorded from now on, and of
+     * the statistics of the types already recorded.
+     *
+     * @param listener The listener
+     */
+    public void addListener(@NonNull Consumer<TypeStatistics> listener) {
+        listeners.add(listener);
+        serialization.values().forEach(listener);
+        deserialization.values().forEach(listener);
+    }
+
+    /**
+     * @return The serialization statistics of the types recorded so far
+     */
+    @NonNull
+    public Collection<TypeStatistics> getSerializationStatistics() {
+        return Collections.unmodifiableCollection(serialization.values());
+    }
+
+    /**
+     * @return The deserialization statistics of the types recorded so far
+     */
+    @NonNull
+    public Collection<TypeStatistics> getDeserializationStatistics() {
+        return Collections.unmodifiableCollection(deserialization.values());
+    }
+
+    /**
+     * The recorded operation.
+     */
+    public enum Operation {
+        SERIALIZE,
+        DESERIALIZE
+    }
+
+    /**
+     * The statistics of a type.
+     */
+    public static final class TypeStatistics implements TypeRecorder {
+        private final Argument<?> type;
+        private final Operation operation;
+        private final boolean allocationTracked;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private TypeStatistics(Argument<?> type, Operation operation, boolean allocationTracked) {
+            this.type = type;
+            this.operation = operation;
+            this.allocationTracked = allocationTracked;
+        }
+
+        @Override
+        public boolean isAllocationTracked() {
+            return allocationTracked;
+        }
+
+        @Override
+        public void record(long durationNanos, long allocatedBytes, boolean error) {
+            count.increment();
+            totalTimeNanos.add(durationNanos);
+            maxTimeNanos.accumulate(durationNanos);
+            if (allocatedBytes != 0) {
+                this.allocatedBytes.add(allocatedBytes);
+            }
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        @Override
+        public void recordBytes(long bytes) {
+            this.bytes.add(bytes);
+        }
+
+        /**
+         * @return The type
+         */
+        @NonNull
+        public Argument<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return The operation
+         */
+        @NonNull
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * @return The number of values read or written, including the failed ones
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return The number of failures
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * @return The total time spent
+         */
+        public long getTotalTimeNanos() {
+            return totalTimeNanos.sum();
+        }
+
+        /**
+         * @return The longest time spent for a single value
+         */
+        public long getMaxTimeNanos() {
+            return maxTimeNanos.get();
+        }
+
+        /**
+         * @return The total bytes allocated, {@code 0} unless {@code micronaut.serde.metrics.allocations} is enabled
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }
+
+        /**
+         * @return The total size of the values read from or written to bytes as root values
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        @Override
+        public String toString() {
+            return operation + " " + type.getTypeString(false) + ": count=" + getCount() + ", errors=" + getErrors() + ", totalTimeNanos=" + getTotalTimeNanos();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.metrics;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+
+/**
+ * SPI for recording the serialization and deserialization metrics of the introspected types. The
+ * registry asks for a recorder once per type when it creates the serializer or deserializer, and
+ * only instruments the types that get one, so the types that are not recorded (and the default
+ * {@link #NOOP} implementation) add no cost when reading or writing values.
+ * <p>
+ * The timings of a type include the timings of the values nested in it.
+ *
+ * @since 2.12.0
+ */
+@Experimental
+public interface SerdeMetrics {
+
+    /**
+     * The metrics that don't record anything.
+     */
+    SerdeMetrics NOOP = new SerdeMetrics() {
+    };
+
+    /**
+     * Get the recorder of the serialization of a type.
+     *
+     * @param type The serialized type
+     * @return The recorder or {@code null} to not record the type
+     */
+    @Nullable
+    default TypeRecorder serializerRecorder(@NonNull Argument<?> type) {
+        return null;
+    }
+
+    /**
+     * Get the recorder of the deserialization of a type.
+     *
+     * @param type The deserialized type
+     * @return The recorder or {@code null} to not record the type
+     */
+    @Nullable
+    default TypeRecorder deserializerRecorder(@NonNull Argument<?> type) {
+        return null;
+    }
+
+    /**
+     * Records the metrics of a single type. Called concurrently.
+     */
+    interface TypeRecorder {
+
+        /**
+         * @return Whether to measure the bytes allocated by the current thread while reading or
+         * writing a value, which is more expensive than timing it
+         */
+        default boolean isAllocationTracked() {
+            return false;
+        }
+
+        /**
+         * Record a read or a written value.
+         *
+         * @param durationNanos  The time it took
+         * @param allocatedBytes The bytes allocated meanwhile, or {@code 0} if not tracked
+         * @param error          Whether it failed
+         */
+        void record(long durationNanos, long allocatedBytes, boolean error);
+
+        /**
+         * Record the size of a value read from or written to bytes as the root value. Only the
+         * byte array methods of the Jackson mapper report sizes.
+         *
+         * @param bytes The number of bytes
+         */
+        default void recordBytes(long bytes) {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.metrics;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the bytes allocated by the current thread, if the JVM supports it.
+ *
+ * @since 2.12.0
+ */
+@Internal
+public final class ThreadAllocation {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+
+    private ThreadAllocation() {
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // not available, e.g. in a native image
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether the allocations can be measured
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * @return The bytes allocated by the current thread so far, or {@code 0} if not supported
+     */
+    public static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.Serde;
 import io.micronaut.serde.support.SerdeRegistrar;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
@@ -45,6 +46,12 @@ public class ByteBufferSerde implements SerdeRegistrar<ByteBuffer> {
                           @NonNull EncoderContext context,
                           @NonNull Argument<? extends ByteBuffer> type,
                           @NonNull ByteBuffer value) throws IOException {
+        if (value.hasArray()) {
+            // stream the backing array to avoid copying it for encoders that support streaming
+            int length = value.remaining();
+            encoder.encodeBinary(new ByteArrayInputStream(value.array(), value.arrayOffset() + value.position(), length), length);
+            return;
+        }
         ByteBuffer slice = value.asReadOnlyBuffer();
         ByteBuffer copy = ByteBuffer.allocate(slice.remaining());
         copy.put(slice);
@@ -23,7 +23,6 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.support.SerdeRegistrar;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Internal
 final class DoubleArraySerde implements SerdeRegistrar<double[]> {
@@ -31,20 +30,7 @@ final class DoubleArraySerde implements SerdeRegistrar<double[]> {
     @Override
     public double[] deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super double[]> type)
         throws IOException {
-        final Decoder arrayDecoder = decoder.decodeArray();
-        double[] buffer = new double[50];
-        int index = 0;
-        while (arrayDecoder.hasNextArrayValue()) {
-            if (buffer.length == index) {
-                buffer = Arrays.copyOf(buffer, buffer.length * 2);
-            }
-            if (!arrayDecoder.decodeNull()) {
-                buffer[index] = arrayDecoder.decodeDouble();
-            }
-            index++;
-        }
-        arrayDecoder.finishStructure();
-        return Arrays.copyOf(buffer, index);
+        return decoder.decodeDoubleArray();
     }
 
     @Override
@@ -59,11 +45,7 @@ final class DoubleArraySerde implements SerdeRegistrar<double[]> {
     public void serialize(Encoder encoder,
                           EncoderContext context,
                           Argument<? extends double[]> type, double[] value) throws IOException {
-        final Encoder arrayEncoder = encoder.encodeArray(type);
-        for (double i : value) {
-            arrayEncoder.encodeDouble(i);
-        }
-        arrayEncoder.finishStructure();
+        encoder.encodeDoubleArray(value, 0, value.length);
     }
 
     @Override
@@ -23,7 +23,6 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.support.SerdeRegistrar;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Internal
 final class FloatArraySerde implements SerdeRegistrar<float[]> {
@@ -31,20 +30,7 @@ final class FloatArraySerde implements SerdeRegistrar<float[]> {
     @Override
     public float[] deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super float[]> type)
         throws IOException {
-        final Decoder arrayDecoder = decoder.decodeArray();
-        float[] buffer = new float[50];
-        int index = 0;
-        while (arrayDecoder.hasNextArrayValue()) {
-            if (buffer.length == index) {
-                buffer = Arrays.copyOf(buffer, buffer.length * 2);
-            }
-            if (!arrayDecoder.decodeNull()) {
-                buffer[index] = arrayDecoder.decodeFloat();
-            }
-            index++;
-        }
-        arrayDecoder.finishStructure();
-        return Arrays.copyOf(buffer, index);
+        return decoder.decodeFloatArray();
     }
 
     @Override
@@ -59,11 +45,7 @@ final class FloatArraySerde implements SerdeRegistrar<float[]> {
     public void serialize(Encoder encoder,
                           EncoderContext context,
                           Argument<? extends float[]> type, float[] value) throws IOException {
-        final Encoder arrayEncoder = encoder.encodeArray(type);
-        for (float i : value) {
-            arrayEncoder.encodeFloat(i);
-        }
-        arrayEncoder.finishStructure();
+        encoder.encodeFloatArray(value, 0, value.length);
     }
 
     @Override
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.serdes;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.config.SerdeConfiguration;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.SerdeRegistrar;
+import io.micronaut.serde.util.BinaryCodecUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serde for {@link InputStream} values, written as binary data like {@code byte[]}. Serializing
+ * streams the content through {@link Encoder#encodeBinary(InputStream, int)} and consumes the
+ * stream, without closing it.
+ *
+ * @since 2.12.0
+ */
+@Internal
+final class InputStreamSerde implements SerdeRegistrar<InputStream> {
+    private final boolean writeLegacyByteArrays;
+
+    InputStreamSerde(SerdeConfiguration serdeConfiguration) {
+        this(serdeConfiguration.isWriteBinaryAsArray());
+    }
+
+    InputStreamSerde(boolean writeLegacyByteArrays) {
+        this.writeLegacyByteArrays = writeLegacyByteArrays;
+    }
+
+    @Override
+    public @NonNull Serializer<InputStream> createSpecific(@NonNull EncoderContext context, @NonNull Argument<? extends InputStream> type) throws SerdeException {
+        return context.getSerdeConfiguration().map(InputStreamSerde::new).orElse(this);
+    }
+
+    @Override
+    public InputStream deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super InputStream> type)
+        throws IOException {
+        return new ByteArrayInputStream(decoder.decodeBinary());
+    }
+
+    @Override
+    public InputStream deserializeNullable(@NonNull Decoder decoder, @NonNull DecoderContext context, @NonNull Argument<? super InputStream> type) throws IOException {
+        byte[] data = decoder.decodeBinaryNullable();
+        return data == null ? null : new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public void serialize(Encoder encoder,
+                          EncoderContext context,
+                          Argument<? extends InputStream> type, InputStream value) throws IOException {
+        if (writeLegacyByteArrays) {
+            BinaryCodecUtil.encodeToArray(encoder, value, -1);
+        } else {
+            encoder.encodeBinary(value, -1);
+        }
+    }
+
+    @Override
+    public Argument<InputStream> getType() {
+        return Argument.of(InputStream.class);
+    }
+}
@@ -23,7 +23,6 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.support.SerdeRegistrar;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Internal
 final class IntArraySerde implements SerdeRegistrar<int[]> {
@@ -31,20 +30,7 @@ final class IntArraySerde implements SerdeRegistrar<int[]> {
     @Override
     public int[] deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super int[]> type)
         throws IOException {
-        final Decoder arrayDecoder = decoder.decodeArray();
-        int[] buffer = new int[50];
-        int index = 0;
-        while (arrayDecoder.hasNextArrayValue()) {
-            if (buffer.length == index) {
-                buffer = Arrays.copyOf(buffer, buffer.length * 2);
-            }
-            if (!arrayDecoder.decodeNull()) {
-                buffer[index] = arrayDecoder.decodeInt();
-            }
-            index++;
-        }
-        arrayDecoder.finishStructure();
-        return Arrays.copyOf(buffer, index);
+        return decoder.decodeIntArray();
     }
 
     @Override
@@ -59,11 +45,7 @@ final class IntArraySerde implements SerdeRegistrar<int[]> {
     public void serialize(Encoder encoder,
                           EncoderContext context,
                           Argument<? extends int[]> type, int[] value) throws IOException {
-        final Encoder arrayEncoder = encoder.encodeArray(type);
-        for (int i : value) {
-            arrayEncoder.encodeInt(i);
-        }
-        arrayEncoder.finishStructure();
+        encoder.encodeIntArray(value, 0, value.length);
     }
 
     @Override
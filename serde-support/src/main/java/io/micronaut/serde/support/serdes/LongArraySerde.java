@@ -22,27 +22,13 @@ import io.micronaut.serde.Encoder;
 import io.micronaut.serde.support.SerdeRegistrar;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 final class LongArraySerde implements SerdeRegistrar<long[]> {
 
     @Override
     public long[] deserialize(Decoder decoder, DecoderContext decoderContext, Argument<? super long[]> type)
         throws IOException {
-        final Decoder arrayDecoder = decoder.decodeArray();
-        long[] buffer = new long[50];
-        int index = 0;
-        while (arrayDecoder.hasNextArrayValue()) {
-            if (buffer.length == index) {
-                buffer = Arrays.copyOf(buffer, buffer.length * 2);
-            }
-            if (!arrayDecoder.decodeNull()) {
-                buffer[index] = arrayDecoder.decodeLong();
-            }
-            index++;
-        }
-        arrayDecoder.finishStructure();
-        return Arrays.copyOf(buffer, index);
+        return decoder.decodeLongArray();
     }
 
     @Override
@@ -57,11 +43,7 @@ final class LongArraySerde implements SerdeRegistrar<long[]> {
     public void serialize(Encoder encoder,
                           EncoderContext context,
                           Argument<? extends long[]> type, long[] value) throws IOException {
-        final Encoder arrayEncoder = encoder.encodeArray(type);
-        for (long i : value) {
-            arrayEncoder.encodeLong(i);
-        }
-        arrayEncoder.finishStructure();
+        encoder.encodeLongArray(value, 0, value.length);
     }
 
     @Override
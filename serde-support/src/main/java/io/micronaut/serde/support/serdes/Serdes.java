@@ -107,6 +107,7 @@ public final class Serdes {
                                 Consumer<SerdeRegistrar<?>> consumer) {
         LEGACY_DEFAULT_SERDES.forEach(consumer);
         consumer.accept(new ByteArraySerde(serdeConfiguration));
+        consumer.accept(new InputStreamSerde(serdeConfiguration));
         SERDES.forEach(consumer);
         InstantSerde instantSerde = new InstantSerde(serdeConfiguration);
         consumer.accept(instantSerde);
@@ -129,7 +129,7 @@ final class CustomizedObjectSerializer<T> implements ObjectSerializer<T> {
                         throw new SerdeException("Serializer for a property: " + property.name + " doesn't support serializing into an existing object");
                     }
                 } else {
-                    encoder.encodeKey(property.name);
+                    encoder.encodeKey(property.encodedName);
                     if (propertyValue == null) {
                         encoder.encodeNull();
                     } else {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.serializers;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.ObjectSerializer;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
+import io.micronaut.serde.support.metrics.ThreadAllocation;
+
+import java.io.IOException;
+
+/**
+ * The {@link ObjectSerializer} recording {@link SerdeMetrics}.
+ *
+ * @param <T> The serializer type
+ * @since 2.12.0
+ */
+@Internal
+final class InstrumentedObjectSerializer<T> extends InstrumentedSerializer<T> implements ObjectSerializer<T> {
+
+    private final ObjectSerializer<T> serializer;
+
+    InstrumentedObjectSerializer(ObjectSerializer<T> serializer, SerdeMetrics.TypeRecorder recorder) {
+        super(serializer, recorder);
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void serializeInto(Encoder encoder, EncoderContext context, Argument<? extends T> type, T value) throws IOException {
+        long allocated = allocationTracked ? ThreadAllocation.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            serializer.serializeInto(encoder, context, type, value);
+            error = false;
+        } finally {
+            record(start, allocated, error);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.serializers;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
+import io.micronaut.serde.support.metrics.ThreadAllocation;
+
+import java.io.IOException;
+
+/**
+ * The {@link Serializer} recording {@link SerdeMetrics}.
+ *
+ * @param <T> The serializer type
+ * @since 2.12.0
+ */
+@Internal
+class InstrumentedSerializer<T> implements Serializer<T> {
+
+    final SerdeMetrics.TypeRecorder recorder;
+    final boolean allocationTracked;
+    private final Serializer<T> serializer;
+
+    InstrumentedSerializer(Serializer<T> serializer, SerdeMetrics.TypeRecorder recorder) {
+        this.serializer = serializer;
+        this.recorder = recorder;
+        this.allocationTracked = recorder.isAllocationTracked();
+    }
+
+    @Override
+    public final void serialize(Encoder encoder, EncoderContext context, Argument<? extends T> type, T value) throws IOException {
+        long allocated = allocationTracked ? ThreadAllocation.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            serializer.serialize(encoder, context, type, value);
+            error = false;
+        } finally {
+            record(start, allocated, error);
+        }
+    }
+
+    final void record(long start, long allocated, boolean error) {
+        long duration = System.nanoTime() - start;
+        recorder.record(duration, allocationTracked ? ThreadAllocation.allocatedBytes() - allocated : 0, error);
+    }
+
+    @Override
+    public final Serializer<T> createSpecific(EncoderContext context, Argument<? extends T> type) throws SerdeException {
+        return serializer.createSpecific(context, type);
+    }
+
+    @Override
+    public final boolean isEmpty(EncoderContext context, T value) {
+        return serializer.isEmpty(context, value);
+    }
+
+    @Override
+    public final boolean isAbsent(EncoderContext context, T value) {
+        return serializer.isAbsent(context, value);
+    }
+}
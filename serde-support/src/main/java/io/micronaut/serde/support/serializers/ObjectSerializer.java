@@ -16,27 +16,31 @@
 package io.micronaut.serde.support.serializers;
 
 import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.exceptions.IntrospectionException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.GenericPlaceholder;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.serde.GeneratedSerializer;
 import io.micronaut.serde.SerdeIntrospections;
 import io.micronaut.serde.Serializer;
 import io.micronaut.serde.config.SerdeConfiguration;
 import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.metrics.SerdeMetrics;
 import io.micronaut.serde.support.util.SerdeArgumentConf;
 import io.micronaut.serde.support.util.SubtypeInfo;
 import io.micronaut.serde.util.CustomizableSerializer;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -57,10 +61,10 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
     private final SerdeConfiguration serdeConfiguration;
     private final SerializationConfiguration serializationConfiguration;
     private final Map<SerBeanKey, Supplier<SerBean<?>>> serBeanMap = new ConcurrentHashMap<>(50);
+    private final Map<SerBeanKey, Optional<io.micronaut.serde.Serializer<Object>>> generatedSerializers = new ConcurrentHashMap<>();
     @Nullable
     private final BeanContext beanContext;
-
-    private final ReentrantLock lock = new ReentrantLock();
+    private final SerdeMetrics metrics;
 
     public ObjectSerializer(SerdeIntrospections introspections,
                             SerdeConfiguration serdeConfiguration,
@@ -72,10 +76,27 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                             SerdeConfiguration serdeConfiguration,
                             SerializationConfiguration serializationConfiguration,
                             @Nullable BeanContext beanContext) {
+        this(introspections, serdeConfiguration, serializationConfiguration, beanContext, SerdeMetrics.NOOP);
+    }
+
+    /**
+     * @param introspections             The introspections
+     * @param serdeConfiguration         The serde configuration
+     * @param serializationConfiguration The serialization configuration
+     * @param beanContext                The bean context
+     * @param metrics                    The metrics
+     * @since 2.12.0
+     */
+    public ObjectSerializer(SerdeIntrospections introspections,
+                            SerdeConfiguration serdeConfiguration,
+                            SerializationConfiguration serializationConfiguration,
+                            @Nullable BeanContext beanContext,
+                            SerdeMetrics metrics) {
         this.introspections = introspections;
         this.serdeConfiguration = serdeConfiguration;
         this.serializationConfiguration = serializationConfiguration;
         this.beanContext = beanContext;
+        this.metrics = metrics;
     }
 
     /**
@@ -102,6 +123,10 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
 
     private io.micronaut.serde.Serializer<Object> createSpecificInternal(EncoderContext encoderContext,
                                                                          Argument<?> type) throws SerdeException {
+        io.micronaut.serde.Serializer<Object> generated = findGeneratedSerializer(type, encoderContext);
+        if (generated != null) {
+            return generated;
+        }
         SerBean<Object> serBean;
         try {
             serBean = (SerBean<Object>) getSerializableBean(type, encoderContext);
@@ -143,10 +168,65 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
                 }
             }
         }
+        return instrument(serializer, type);
+    }
+
+    private io.micronaut.serde.Serializer<Object> instrument(io.micronaut.serde.Serializer<Object> serializer, Argument<?> type) {
         if (serializer instanceof io.micronaut.serde.ObjectSerializer<Object> objectSerializer) {
-            return new ErrorCatchingObjectSerializer<>(objectSerializer);
+            serializer = new ErrorCatchingObjectSerializer<>(objectSerializer);
+        } else {
+            serializer = new ErrorCatchingSerializer<>(serializer);
+        }
+        SerdeMetrics.TypeRecorder recorder = metrics.serializerRecorder(type);
+        if (recorder != null) {
+            if (serializer instanceof io.micronaut.serde.ObjectSerializer<Object> objectSerializer) {
+                return new InstrumentedObjectSerializer<>(objectSerializer, recorder);
+            }
+            return new InstrumentedSerializer<>(serializer, recorder);
+        }
+        return serializer;
+    }
+
+    /**
+     * Find the serializer generated at compilation time for a type. The generated serializer
+     * resolves the property names and inclusion rules at compilation time, so it is not used
+     * when the argument or the context customizes them.
+     *
+     * @param type    The type
+     * @param context The encoder context
+     * @return The bound serializer or {@code null} if there is no usable generated serializer
+     */
+    @Nullable
+    private io.micronaut.serde.Serializer<Object> findGeneratedSerializer(Argument<?> type, EncoderContext context) {
+        AnnotationMetadata annotationMetadata = type.getAnnotationMetadata();
+        SerdeArgumentConf serdeArgumentConf = annotationMetadata.isEmpty() ? null : new SerdeArgumentConf(annotationMetadata);
+        if (serdeArgumentConf != null && !serdeArgumentConf.isEmpty()
+            || context.getSerdeConfiguration().map(SerdeConfiguration::getPropertyNamingStrategy).isPresent()) {
+            return null;
         }
-        return new ErrorCatchingSerializer<>(serializer);
+        SerializationConfiguration configuration = context.getSerializationConfiguration().orElse(serializationConfiguration);
+        SerBeanKey key = new SerBeanKey(
+            context.getSerdeConfiguration().orElse(serdeConfiguration),
+            configuration,
+            type,
+            serdeArgumentConf
+        );
+        return generatedSerializers.computeIfAbsent(key, ignore -> {
+            BeanIntrospection<Object> introspection;
+            try {
+                introspection = (BeanIntrospection<Object>) introspections.getSerializableIntrospection(type);
+            } catch (IntrospectionException e) {
+                return Optional.empty();
+            }
+            Object instance = introspection.getValue(SerdeConfig.class, SerdeConfig.GENERATED_SERIALIZER, AnnotationClassValue.class)
+                .flatMap(AnnotationClassValue::getInstance)
+                .orElse(null);
+            if (instance instanceof GeneratedSerializer<?> generated) {
+                GeneratedSerializer<Object> bound = ((GeneratedSerializer<Object>) generated).bind(introspection, configuration.getInclusion());
+                return Optional.of(instrument(bound, type));
+            }
+            return Optional.empty();
+        }).orElse(null);
     }
 
     private <T> SerBean<T> getSerializableBean(Argument<T> type,
@@ -168,7 +248,7 @@ public final class ObjectSerializer implements CustomizableSerializer<Object> {
             }
         }));
         SerBean<?> serBean = serBeanSupplier.get();
-        serBean.initialize(lock, context);
+        serBean.initialize(context);
         return (SerBean<T>) serBean;
     }
 }
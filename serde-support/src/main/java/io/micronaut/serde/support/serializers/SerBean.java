@@ -34,6 +34,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.serde.EncodedKey;
 import io.micronaut.serde.PropertyFilter;
 import io.micronaut.serde.SerdeIntrospections;
 import io.micronaut.serde.Serializer;
@@ -42,6 +43,7 @@ import io.micronaut.serde.config.SerializationConfiguration;
 import io.micronaut.serde.config.annotation.SerdeConfig;
 import io.micronaut.serde.config.naming.PropertyNamingStrategy;
 import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.util.BeanGraphInitializer;
 import io.micronaut.serde.support.util.SerdeAnnotationUtil;
 import io.micronaut.serde.support.util.SerdeArgumentConf;
 import io.micronaut.serde.support.util.SubtypeInfo;
@@ -58,7 +60,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -99,7 +100,6 @@ final class SerBean<T> {
     private final SerdeArgumentConf serdeArgumentConf;
 
     private volatile boolean initialized;
-    private volatile boolean initializing;
 
     private List<Initializer> initializers = new ArrayList<>();
 
@@ -378,33 +378,30 @@ final class SerBean<T> {
         }
     }
 
-    public void initialize(ReentrantLock lock, Serializer.EncoderContext encoderContext) throws SerdeException {
-        // Double check locking
+    public void initialize(Serializer.EncoderContext encoderContext) throws SerdeException {
         if (!initialized) {
-            lock.lock();
-            try {
-                if (!initialized && !initializing) {
-                    initializing = true;
+            BeanGraphInitializer.initialize(this, () -> {
+                List<Initializer> initializers;
+                synchronized (this) {
+                    initializers = this.initializers;
+                }
+                if (initializers != null) {
                     for (Initializer initializer : initializers) {
                         initializer.initialize(encoderContext);
                     }
-                    initializers = null;
-                    initialized = true;
-                    initializing = false;
                 }
-            } finally {
-                lock.unlock();
-            }
+            }, this::markInitialized);
         }
     }
 
+    private synchronized void markInitialized() {
+        initializers = null;
+        initialized = true;
+    }
+
     private <Y, Z> void initProperty(SerProperty<Y, Z> prop,
                                      Serializer.EncoderContext encoderContext) throws SerdeException {
-        if (prop.serializer != null) {
-            return;
-        }
-
-        Class customSer = prop.annotationMetadata.classValue(SerdeConfig.class, SerdeConfig.SERIALIZER_CLASS).orElse(null);
+        Class customSer = prop.customSerializerClass;
         Serializer<Z> serializer;
         Argument<Z> argument = prop.argument;
         if (serdeArgumentConf != null) {
@@ -415,16 +412,22 @@ final class SerBean<T> {
         } else {
             serializer = (Serializer<Z>) encoderContext.findSerializer(argument);
         }
-        prop.serializer = serializer.createSpecific(encoderContext, argument);
-
+        Serializer<Z> specificSerializer = serializer.createSpecific(encoderContext, argument);
+        io.micronaut.serde.ObjectSerializer<Z> objectSerializer = null;
         if (prop.serializableInto) {
-            if (prop.serializer instanceof io.micronaut.serde.ObjectSerializer<Z> objectSerializer) {
-                prop.objectSerializer = objectSerializer;
+            if (specificSerializer instanceof io.micronaut.serde.ObjectSerializer<Z> os) {
+                objectSerializer = os;
             } else {
                 throw new SerdeException("Serializer for a property: " + prop.name + " doesn't support serializing into an existing object");
             }
         }
-        prop.annotationMetadata = null;
+        synchronized (this) {
+            // another thread might have resolved the property concurrently
+            if (prop.serializer == null) {
+                prop.serializer = specificSerializer;
+                prop.objectSerializer = objectSerializer;
+            }
+        }
     }
 
     private boolean isSimpleBean() {
@@ -561,6 +564,7 @@ final class SerBean<T> {
     abstract static class SerProperty<B, P> {
         // CHECKSTYLE:OFF
         public final String name;
+        public final EncodedKey encodedName;
         public final String originalName;
         public final Argument<P> argument;
         public final Class<?>[] views;
@@ -572,7 +576,8 @@ final class SerBean<T> {
         public Serializer<P> serializer;
         @Nullable
         public io.micronaut.serde.ObjectSerializer<P> objectSerializer;
-        public AnnotationMetadata annotationMetadata;
+        @Nullable
+        final Class<?> customSerializerClass;
         // CHECKSTYLE:ON
 
         public SerProperty(
@@ -590,6 +595,7 @@ final class SerBean<T> {
                 @NonNull Argument<P> argument,
                 @NonNull AnnotationMetadata annotationMetadata) {
             this.name = name;
+            this.encodedName = EncodedKey.of(name);
             this.originalName = originalName;
             this.argument = argument;
             final AnnotationMetadata beanMetadata = bean.introspection.getAnnotationMetadata();
@@ -603,7 +609,7 @@ final class SerBean<T> {
                     .orElse(null);
             this.backRef = annotationMetadata.stringValue(SerdeConfig.SerBackRef.class)
                     .orElse(null);
-            this.annotationMetadata = annotationMetadata;
+            this.customSerializerClass = annotationMetadata.classValue(SerdeConfig.class, SerdeConfig.SERIALIZER_CLASS).orElse(null);
             this.serializableInto = annotationMetadata.hasAnnotation(SerdeConfig.SerUnwrapped.class) || annotationMetadata.hasAnnotation(SerdeConfig.SerAnyGetter.class);
         }
 
@@ -46,7 +46,7 @@ final class SimpleObjectSerializer<T> implements ObjectSerializer<T> {
         } else {
             Encoder childEncoder = encoder.encodeObject(type);
             for (SerBean.SerProperty<T, Object> property : writeProperties) {
-                childEncoder.encodeKey(property.name);
+                childEncoder.encodeKey(property.encodedName);
                 Object v = property.get(value);
                 if (v == null) {
                     childEncoder.encodeNull();
@@ -61,7 +61,7 @@ final class SimpleObjectSerializer<T> implements ObjectSerializer<T> {
     @Override
     public void serializeInto(Encoder encoder, EncoderContext context, Argument<? extends T> type, T value) throws IOException {
         for (SerBean.SerProperty<T, Object> property : writeProperties) {
-            encoder.encodeKey(property.name);
+            encoder.encodeKey(property.encodedName);
             Object v = property.get(value);
             if (v == null) {
                 encoder.encodeNull();
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.serde.exceptions.SerdeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Initializes the beans of a possibly cyclic serializer or deserializer graph without a shared
+ * lock.
+ * <p>
+ * Every thread resolves the graph reachable from the bean it needs on its own, so threads
+ * initializing unrelated beans never wait for each other. A bean that is reached again while it
+ * is being initialized on the same thread is a recursive reference, and is left to the
+ * outer initialization. Because such a bean is incomplete until the outermost initialization
+ * returns, the beans are only marked as initialized (and visible to other threads as such) once
+ * the whole graph of the thread is resolved. Threads that race on the same bean resolve it
+ * twice, so the steps must only publish their results under the bean monitor, keeping the
+ * first one.
+ *
+ * @since 2.12.0
+ */
+@Internal
+public final class BeanGraphInitializer {
+    private static final ThreadLocal<BeanGraphInitializer> CURRENT = new ThreadLocal<>();
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Runnable> completions = new ArrayList<>();
+
+    private BeanGraphInitializer() {
+    }
+
+    /**
+     * Initialize a bean, unless it is already being initialized by the current thread.
+     *
+     * @param bean       The bean
+     * @param step       Resolves the bean, initializing the beans it references
+     * @param onComplete Marks the bean as initialized, called once the whole graph is resolved
+     * @throws SerdeException If the step fails
+     */
+    public static void initialize(Object bean, Step step, Runnable onComplete) throws SerdeException {
+        BeanGraphInitializer current = CURRENT.get();
+        if (current != null) {
+            if (current.visited.add(bean)) {
+                step.run();
+                current.completions.add(onComplete);
+            }
+            return;
+        }
+        current = new BeanGraphInitializer();
+        CURRENT.set(current);
+        try {
+            current.visited.add(bean);
+            step.run();
+            for (Runnable completion : current.completions) {
+                completion.run();
+            }
+            onComplete.run();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * An initialization step.
+     */
+    @FunctionalInterface
+    public interface Step {
+        /**
+         * Run this step.
+         *
+         * @throws SerdeException If the step fails
+         */
+        void run() throws SerdeException;
+    }
+}
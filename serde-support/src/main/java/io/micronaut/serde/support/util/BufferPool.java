@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * An {@link InstancePool} of growable output buffers, shared by the mappers that write a whole
+ * document to memory before handing it out. Buffers that grew beyond
+ * {@link #MAX_POOLED_BUFFER_SIZE} are dropped instead of being returned to the pool.
+ *
+ * @param <B> The buffer type
+ * @since 2.12.0
+ */
+@Internal
+public final class BufferPool<B> {
+    /**
+     * The capacity above which a released buffer is not pooled.
+     */
+    public static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+    private final InstancePool<B> buffers = new InstancePool<>();
+    private final Supplier<B> factory;
+    private final ToIntFunction<B> capacity;
+    private final Consumer<B> reset;
+
+    /**
+     * Create a pool.
+     *
+     * @param factory  Creates an empty buffer when the pool has none
+     * @param capacity The current capacity of a buffer in bytes
+     * @param reset    Empties a buffer before it is returned to the pool
+     */
+    public BufferPool(@NonNull Supplier<B> factory, @NonNull ToIntFunction<B> capacity, @NonNull Consumer<B> reset) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.reset = reset;
+    }
+
+    /**
+     * Take a buffer out of the pool, or create a new one.
+     *
+     * @return An empty buffer
+     */
+    @NonNull
+    public B acquire() {
+        B buffer = buffers.acquire();
+        return buffer == null ? factory.get() : buffer;
+    }
+
+    /**
+     * Return a buffer to the pool. The buffer must not be used by the caller afterwards.
+     *
+     * @param buffer The buffer
+     */
+    public void release(@NonNull B buffer) {
+        // don't hold on to the buffers of exceptionally large documents
+        if (capacity.applyAsInt(buffer) <= MAX_POOLED_BUFFER_SIZE) {
+            reset.accept(buffer);
+            buffers.release(buffer);
+        }
+    }
+}
@@ -39,6 +39,11 @@ import org.reactivestreams.Subscriber;
 @Internal
 @Experimental
 public abstract class BufferingJsonNodeProcessor extends SpreadProcessor<byte[], JsonNode> {
+    /**
+     * {@link #walkJson} state directly inside a top-level array, outside any string.
+     */
+    private static final long TOP_LEVEL_ARRAY_STATE = 1L << 32;
+
     private final Consumer<Processor<byte[], JsonNode>> onSubscribe;
 
     private final boolean streamArray;
@@ -56,6 +61,10 @@ public abstract class BufferingJsonNodeProcessor extends SpreadProcessor<byte[],
     private long buffersState = 0;
 
     private boolean onlyWhitespace = true;
+    /**
+     * Whether we are inside a top-level array whose elements are emitted individually.
+     */
+    private boolean streamingArray = false;
 
     /**
      * Default constructor.
@@ -81,12 +90,36 @@ public abstract class BufferingJsonNodeProcessor extends SpreadProcessor<byte[],
         }
         buffers.add(bytes);
         for (int i = 0; i < bytes.length; ) {
-            boolean ws = isJsonWhitespace(bytes[i]);
-            boolean wasOutsideStructure = buffersState == 0;
-            buffersState = walkJson(buffersState, bytes[i]);
+            byte b = bytes[i];
+            boolean ws = isJsonWhitespace(b);
+            long previousState = buffersState;
+            boolean wasOutsideStructure = previousState == 0;
+            buffersState = walkJson(previousState, b);
+            if (streamingArray) {
+                i++;
+                if (previousState == TOP_LEVEL_ARRAY_STATE && (b == ',' || buffersState == 0)) {
+                    // end of an element, the delimiter is not part of it
+                    if (!onlyWhitespace) {
+                        processOne(bytes.length - i + 1, out);
+                    }
+                    skipTo(bytes, i);
+                    streamingArray = buffersState != 0;
+                } else {
+                    onlyWhitespace &= ws;
+                }
+                continue;
+            }
             if (buffersState != 0 && wasOutsideStructure && !onlyWhitespace) {
                 processOne(bytes.length - i, out);
             }
+            if (streamArray && wasOutsideStructure && b == '[') {
+                // emit the elements of a top-level array as soon as each is complete, instead
+                // of buffering the whole array
+                i++;
+                skipTo(bytes, i);
+                streamingArray = true;
+                continue;
+            }
             onlyWhitespace &= ws;
             i++;
             // split on whitespace
@@ -133,7 +166,12 @@ public abstract class BufferingJsonNodeProcessor extends SpreadProcessor<byte[],
             head = false;
         }
         // parse
-        processTopLevelNode(parseOne(composite), out);
+        JsonNode node = parseOne(composite);
+        if (streamingArray) {
+            out.add(node);
+        } else {
+            processTopLevelNode(node, out);
+        }
         // restructure local buffers
         buffers.clear();
         if (tailBuffer != null && tailRemaining != 0) {
@@ -145,6 +183,16 @@ public abstract class BufferingJsonNodeProcessor extends SpreadProcessor<byte[],
         onlyWhitespace = true;
     }
 
+    /**
+     * Discard all buffered data before the given offset of the current buffer.
+     */
+    private void skipTo(byte[] current, int offset) {
+        buffers.clear();
+        buffers.add(current);
+        headOffset = offset;
+        onlyWhitespace = true;
+    }
+
     private void processTopLevelNode(JsonNode node, Collection<JsonNode> out) {
         if (streamArray && node.isArray()) {
             for (JsonNode child : node.values()) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.ValueIterator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Base {@link ValueIterator} implementation running a {@link Deserializer} for every value.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+@Internal
+public abstract class DecoderValueIterator<T> implements ValueIterator<T> {
+    private final Deserializer<? extends T> deserializer;
+    private final Deserializer.DecoderContext decoderContext;
+    private final Argument<T> type;
+    private final Closeable input;
+    @Nullable
+    private Decoder pending;
+    private boolean done;
+
+    /**
+     * @param deserializer   The specific deserializer for the values
+     * @param decoderContext The decoder context
+     * @param type           The value type
+     * @param input          The input to close once the values are consumed
+     */
+    protected DecoderValueIterator(@NonNull Deserializer<? extends T> deserializer,
+                                   @NonNull Deserializer.DecoderContext decoderContext,
+                                   @NonNull Argument<T> type,
+                                   @NonNull Closeable input) {
+        this.deserializer = deserializer;
+        this.decoderContext = decoderContext;
+        this.type = type;
+        this.input = input;
+    }
+
+    /**
+     * Create an iterator over the elements of an array.
+     *
+     * @param arrayDecoder   The decoder of the array
+     * @param deserializer   The specific deserializer for the elements
+     * @param decoderContext The decoder context
+     * @param type           The element type
+     * @param input          The input to close once the elements are consumed
+     * @param <T>            The element type
+     * @return The iterator
+     */
+    @NonNull
+    public static <T> DecoderValueIterator<T> ofArray(@NonNull Decoder arrayDecoder,
+                                                      @NonNull Deserializer<? extends T> deserializer,
+                                                      @NonNull Deserializer.DecoderContext decoderContext,
+                                                      @NonNull Argument<T> type,
+                                                      @NonNull Closeable input) {
+        return new DecoderValueIterator<>(deserializer, decoderContext, type, input) {
+            @Override
+            protected Decoder nextValueDecoder() throws IOException {
+                if (arrayDecoder.hasNextArrayValue()) {
+                    return arrayDecoder;
+                }
+                arrayDecoder.finishStructure();
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Advance to the next value.
+     *
+     * @return The decoder positioned at the next value, or {@code null} if there are no more values
+     * @throws IOException If an unrecoverable error occurs
+     */
+    @Nullable
+    protected abstract Decoder nextValueDecoder() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null && !done) {
+            try {
+                pending = nextValueDecoder();
+                if (pending == null) {
+                    close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return pending != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Decoder decoder = pending;
+        pending = null;
+        try {
+            return deserializer.deserializeNullable(decoder, decoderContext, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!done) {
+            done = true;
+            pending = null;
+            input.close();
+        }
+    }
+}
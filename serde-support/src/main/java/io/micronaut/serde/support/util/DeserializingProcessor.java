@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Base class for typed reactive parsers, see
+ * {@link io.micronaut.serde.ObjectMapper#createReactiveParser(Argument, Consumer, boolean)}.
+ * Subclasses feed the input bytes to a non-blocking parser and call {@link #emit} with a decoder
+ * for every complete value, which is deserialized directly without building a
+ * {@link io.micronaut.json.tree.JsonNode} first. Demand is handled like for
+ * {@link BufferingJsonNodeProcessor}.
+ *
+ * @param <T> The value type
+ * @since 2.12.0
+ */
+@Internal
+@Experimental
+public abstract class DeserializingProcessor<T> extends SpreadProcessor<byte[], T> {
+    private final Consumer<Processor<byte[], T>> onSubscribe;
+    private final Deserializer<? extends T> deserializer;
+    private final Deserializer.DecoderContext decoderContext;
+    private final Argument<T> type;
+
+    /**
+     * @param onSubscribe    The onSubscribe callback
+     * @param deserializer   The specific deserializer for the values
+     * @param decoderContext The decoder context
+     * @param type           The value type
+     */
+    protected DeserializingProcessor(@NonNull Consumer<Processor<byte[], T>> onSubscribe,
+                                     @NonNull Deserializer<? extends T> deserializer,
+                                     @NonNull Deserializer.DecoderContext decoderContext,
+                                     @NonNull Argument<T> type) {
+        this.onSubscribe = onSubscribe;
+        this.deserializer = deserializer;
+        this.decoderContext = decoderContext;
+        this.type = type;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        onSubscribe.accept(this);
+        super.subscribe(s);
+    }
+
+    /**
+     * Deserialize a complete value and add it to the output. {@code null} values are dropped,
+     * since they can't be forwarded to the subscriber.
+     *
+     * @param decoder The decoder positioned at the value
+     * @param out     The output
+     * @throws IOException If the value could not be deserialized
+     */
+    protected final void emit(@NonNull Decoder decoder, @NonNull Collection<T> out) throws IOException {
+        T value = deserializer.deserializeNullable(decoder, decoderContext, type);
+        if (value != null) {
+            out.add(value);
+        }
+    }
+}
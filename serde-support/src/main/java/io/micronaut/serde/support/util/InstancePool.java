@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A small, bounded pool of reusable instances, e.g. decoders and encoders that can be
+ * {@code reset} for a new stream. Instead of a {@link ThreadLocal}, which pins an instance to
+ * every (virtual) thread that ever touched the mapper, the pool is a fixed array of slots
+ * striped by the calling thread. Acquiring takes the instance out of its slot, so a nested
+ * call on the same thread never sees an instance that is still in use, and releasing only puts
+ * it back when the slot is empty, so the pool never grows.
+ *
+ * @param <T> The pooled type
+ * @since 2.12.0
+ */
+@Internal
+public final class InstancePool<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    /**
+     * Create a pool sized for the available processors.
+     */
+    public InstancePool() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Create a pool.
+     *
+     * @param capacity The minimum number of slots, rounded up to a power of two
+     */
+    public InstancePool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Take an instance out of the pool.
+     *
+     * @return The instance, or {@code null} if the caller needs to create a new one
+     */
+    @Nullable
+    public T acquire() {
+        int slot = slot();
+        if (slots.get(slot) == null) {
+            return null;
+        }
+        return slots.getAndSet(slot, null);
+    }
+
+    /**
+     * Return an instance to the pool. The instance must not be used by the caller afterwards.
+     * If the slot of the calling thread is occupied, the instance is dropped.
+     *
+     * @param instance The instance, already reset so that it doesn't retain its last stream
+     */
+    public void release(@NonNull T instance) {
+        int slot = slot();
+        if (slots.get(slot) == null) {
+            slots.compareAndSet(slot, null, instance);
+        }
+    }
+
+    private int slot() {
+        int h = System.identityHashCode(Thread.currentThread());
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementation of the {@link io.micronaut.serde.Encoder} interface that encodes a
@@ -131,6 +132,46 @@ public abstract class JsonNodeEncoder extends LimitingStream implements Encoder
         BinaryCodecUtil.encodeToBase64String(this, data);
     }
 
+    @Override
+    public void encodeIntArray(int @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        List<JsonNode> nodes = new ArrayList<>(length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            nodes.add(JsonNode.createNumberNode(array[i]));
+        }
+        encodeValue(JsonNode.createArrayNode(nodes));
+    }
+
+    @Override
+    public void encodeLongArray(long @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        List<JsonNode> nodes = new ArrayList<>(length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            nodes.add(JsonNode.createNumberNode(array[i]));
+        }
+        encodeValue(JsonNode.createArrayNode(nodes));
+    }
+
+    @Override
+    public void encodeFloatArray(float @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        List<JsonNode> nodes = new ArrayList<>(length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            nodes.add(JsonNode.createNumberNode(array[i]));
+        }
+        encodeValue(JsonNode.createArrayNode(nodes));
+    }
+
+    @Override
+    public void encodeDoubleArray(double @NonNull [] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        List<JsonNode> nodes = new ArrayList<>(length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            nodes.add(JsonNode.createNumberNode(array[i]));
+        }
+        encodeValue(JsonNode.createArrayNode(nodes));
+    }
+
     @Override
     public void encodeNull() {
         encodeValue(JsonNode.nullNode());
@@ -52,6 +52,8 @@ public final class SerdeArgumentConf {
     private final String[] order;
     @Nullable
     private final SubtypeInfo subtypeInfo;
+    @Nullable
+    private final Boolean stopWhenComplete;
 
     public SerdeArgumentConf(AnnotationMetadata annotationMetadata) {
         prefix = annotationMetadata.stringValue(SerdeConfig.SerUnwrapped.class, SerdeConfig.SerUnwrapped.PREFIX).orElse(null);
@@ -81,6 +83,7 @@ public final class SerdeArgumentConf {
         }
         this.order = order;
         this.subtypeInfo = SubtypeInfo.createForProperty(annotationMetadata);
+        this.stopWhenComplete = annotationMetadata.booleanValue(SerdeConfig.class, SerdeConfig.STOP_WHEN_COMPLETE).orElse(null);
     }
 
     /**
@@ -174,12 +177,12 @@ public final class SerdeArgumentConf {
             return false;
         }
         SerdeArgumentConf that = (SerdeArgumentConf) o;
-        return Objects.equals(prefix, that.prefix) && Objects.equals(suffix, that.suffix) && Arrays.equals(ignored, that.ignored) && Arrays.equals(included, that.included) && Arrays.equals(order, that.order) && Objects.equals(subtypeInfo, that.subtypeInfo);
+        return Objects.equals(prefix, that.prefix) && Objects.equals(suffix, that.suffix) && Arrays.equals(ignored, that.ignored) && Arrays.equals(included, that.included) && Arrays.equals(order, that.order) && Objects.equals(subtypeInfo, that.subtypeInfo) && Objects.equals(stopWhenComplete, that.stopWhenComplete);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(prefix, suffix, subtypeInfo);
+        int result = Objects.hash(prefix, suffix, subtypeInfo, stopWhenComplete);
         result = 31 * result + Arrays.hashCode(ignored);
         result = 31 * result + Arrays.hashCode(included);
         result = 31 * result + Arrays.hashCode(order);
@@ -214,4 +217,22 @@ public final class SerdeArgumentConf {
     public SubtypeInfo getSubtypeInfo() {
         return subtypeInfo;
     }
+
+    /**
+     * @return Whether to stop reading an object once all its properties are consumed, or {@code null} to use the type setting
+     * @since 2.12.0
+     */
+    @Nullable
+    public Boolean getStopWhenComplete() {
+        return stopWhenComplete;
+    }
+
+    /**
+     * @return Whether the argument doesn't change how the type is serialized or deserialized
+     * @since 2.12.0
+     */
+    public boolean isEmpty() {
+        return prefix == null && suffix == null && ignored == null && included == null
+            && order == null && subtypeInfo == null && stopWhenComplete == null;
+    }
 }
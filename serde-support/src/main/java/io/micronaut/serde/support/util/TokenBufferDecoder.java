@@ -0,0 +1,367 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.serde.support.util;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.exceptions.InvalidFormatException;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.support.AbstractStreamDecoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A {@link Decoder} replaying a buffered value. Unlike {@link JsonNodeDecoder}, the value is not
+ * stored as a tree but as a flat array of tokens, with primitive values packed into a
+ * {@code long} array and strings, keys and big numbers kept in a shared object array. Buffering a
+ * value thus only allocates a few arrays, regardless of its size and nesting.
+ *
+ * @since 2.12.0
+ */
+@Internal
+public final class TokenBufferDecoder extends AbstractStreamDecoder {
+    private static final byte START_OBJECT = 0;
+    private static final byte END_OBJECT = 1;
+    private static final byte START_ARRAY = 2;
+    private static final byte END_ARRAY = 3;
+    private static final byte KEY = 4;
+    private static final byte STRING = 5;
+    private static final byte INT = 6;
+    private static final byte LONG = 7;
+    private static final byte FLOAT = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte BIG_NUMBER = 10;
+    private static final byte TRUE = 11;
+    private static final byte FALSE = 12;
+    private static final byte NULL = 13;
+
+    private final byte[] tokens;
+    private final long[] values;
+    private final Object[] objects;
+    private final int end;
+    private int position;
+
+    private TokenBufferDecoder(byte[] tokens, long[] values, Object[] objects, int start, int end, RemainingLimits remainingLimits) {
+        super(remainingLimits);
+        this.tokens = tokens;
+        this.values = values;
+        this.objects = objects;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Create a new builder to record a value.
+     *
+     * @return The builder
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void finishStructure(boolean consumeLeftElements) throws IOException {
+        super.finishStructure(consumeLeftElements);
+        nextToken();
+    }
+
+    @Override
+    @Nullable
+    protected TokenType currentToken() {
+        if (position >= end) {
+            return null;
+        }
+        return switch (tokens[position]) {
+            case START_OBJECT -> TokenType.START_OBJECT;
+            case END_OBJECT -> TokenType.END_OBJECT;
+            case START_ARRAY -> TokenType.START_ARRAY;
+            case END_ARRAY -> TokenType.END_ARRAY;
+            case KEY -> TokenType.KEY;
+            case STRING -> TokenType.STRING;
+            case INT, LONG, FLOAT, DOUBLE, BIG_NUMBER -> TokenType.NUMBER;
+            case TRUE, FALSE -> TokenType.BOOLEAN;
+            case NULL -> TokenType.NULL;
+            default -> TokenType.OTHER;
+        };
+    }
+
+    @Override
+    protected void nextToken() {
+        position++;
+    }
+
+    @Override
+    protected String getCurrentKey() {
+        return (String) objects[(int) values[position]];
+    }
+
+    @Override
+    protected String coerceScalarToString(TokenType currentToken) {
+        return switch (tokens[position]) {
+            case STRING -> getString();
+            case TRUE -> "true";
+            case FALSE -> "false";
+            case INT, LONG, FLOAT, DOUBLE, BIG_NUMBER -> getBestNumber().toString();
+            default -> throw new IllegalStateException("Method called in wrong context " + currentToken);
+        };
+    }
+
+    @Override
+    protected String getString() {
+        return (String) objects[(int) values[position]];
+    }
+
+    @Override
+    protected boolean getBoolean() {
+        return tokens[position] == TRUE;
+    }
+
+    @Override
+    protected long getLong() {
+        return switch (tokens[position]) {
+            case INT, LONG -> values[position];
+            case FLOAT, DOUBLE -> (long) Double.longBitsToDouble(values[position]);
+            default -> ((Number) objects[(int) values[position]]).longValue();
+        };
+    }
+
+    @Override
+    protected double getDouble() {
+        return switch (tokens[position]) {
+            case INT, LONG -> values[position];
+            case FLOAT, DOUBLE -> Double.longBitsToDouble(values[position]);
+            default -> ((Number) objects[(int) values[position]]).doubleValue();
+        };
+    }
+
+    @Override
+    protected BigInteger getBigInteger() {
+        return switch (tokens[position]) {
+            case INT, LONG -> BigInteger.valueOf(values[position]);
+            case FLOAT, DOUBLE -> BigDecimal.valueOf(Double.longBitsToDouble(values[position])).toBigInteger();
+            default -> {
+                Number number = (Number) objects[(int) values[position]];
+                if (number instanceof BigInteger bigInteger) {
+                    yield bigInteger;
+                }
+                yield getBigDecimal().toBigInteger();
+            }
+        };
+    }
+
+    @Override
+    protected BigDecimal getBigDecimal() {
+        return switch (tokens[position]) {
+            case INT, LONG -> BigDecimal.valueOf(values[position]);
+            case FLOAT, DOUBLE -> BigDecimal.valueOf(Double.longBitsToDouble(values[position]));
+            default -> {
+                Number number = (Number) objects[(int) values[position]];
+                if (number instanceof BigDecimal bigDecimal) {
+                    yield bigDecimal;
+                } else if (number instanceof BigInteger bigInteger) {
+                    yield new BigDecimal(bigInteger);
+                }
+                yield new BigDecimal(number.toString());
+            }
+        };
+    }
+
+    @Override
+    protected Number getBestNumber() {
+        long value = values[position];
+        return switch (tokens[position]) {
+            case INT -> (int) value;
+            case LONG -> value;
+            case FLOAT -> (float) Double.longBitsToDouble(value);
+            case DOUBLE -> Double.longBitsToDouble(value);
+            default -> (Number) objects[(int) value];
+        };
+    }
+
+    @Override
+    protected void skipChildren() {
+        byte token = tokens[position];
+        if (token != START_OBJECT && token != START_ARRAY) {
+            return;
+        }
+        int depth = 0;
+        do {
+            token = tokens[position];
+            if (token == START_OBJECT || token == START_ARRAY) {
+                depth++;
+            } else if (token == END_OBJECT || token == END_ARRAY) {
+                depth--;
+            }
+            if (depth > 0) {
+                position++;
+            }
+        } while (depth > 0);
+    }
+
+    @NonNull
+    @Override
+    public Decoder decodeBuffer() throws IOException {
+        // the buffer is immutable, so we can replay the value from the same arrays
+        TokenType currentToken = currentToken();
+        if (currentToken == null || currentToken == TokenType.END_OBJECT || currentToken == TokenType.END_ARRAY) {
+            throw createDeserializationException("Unexpected token " + currentToken + ", expected value", null);
+        }
+        int start = position;
+        skipValue();
+        return new TokenBufferDecoder(tokens, values, objects, start, position, ourLimits());
+    }
+
+    @Override
+    public IOException createDeserializationException(String message, Object invalidValue) {
+        if (invalidValue != null) {
+            return new InvalidFormatException(message, null, invalidValue);
+        } else {
+            return new SerdeException(message);
+        }
+    }
+
+    /**
+     * Records the tokens of a value. The tokens must form exactly one value.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private byte[] tokens = new byte[INITIAL_CAPACITY];
+        private long[] values = new long[INITIAL_CAPACITY];
+        private Object[] objects = new Object[INITIAL_CAPACITY];
+        private int size;
+        private int objectCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Record the start of an object.
+         */
+        public void startObject() {
+            add(START_OBJECT, 0);
+        }
+
+        /**
+         * Record the end of an object.
+         */
+        public void endObject() {
+            add(END_OBJECT, 0);
+        }
+
+        /**
+         * Record the start of an array.
+         */
+        public void startArray() {
+            add(START_ARRAY, 0);
+        }
+
+        /**
+         * Record the end of an array.
+         */
+        public void endArray() {
+            add(END_ARRAY, 0);
+        }
+
+        /**
+         * Record an object key.
+         *
+         * @param key The key
+         */
+        public void key(@NonNull String key) {
+            add(KEY, addObject(key));
+        }
+
+        /**
+         * Record a string value.
+         *
+         * @param value The value
+         */
+        public void string(@NonNull String value) {
+            add(STRING, addObject(value));
+        }
+
+        /**
+         * Record a boolean value.
+         *
+         * @param value The value
+         */
+        public void bool(boolean value) {
+            add(value ? TRUE : FALSE, 0);
+        }
+
+        /**
+         * Record a null value.
+         */
+        public void nullValue() {
+            add(NULL, 0);
+        }
+
+        /**
+         * Record a number value. The number type is retained.
+         *
+         * @param value The value
+         */
+        public void number(@NonNull Number value) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                add(INT, value.intValue());
+            } else if (value instanceof Long) {
+                add(LONG, value.longValue());
+            } else if (value instanceof Float) {
+                add(FLOAT, Double.doubleToRawLongBits(value.floatValue()));
+            } else if (value instanceof Double) {
+                add(DOUBLE, Double.doubleToRawLongBits(value.doubleValue()));
+            } else {
+                add(BIG_NUMBER, addObject(value));
+            }
+        }
+
+        /**
+         * Create a decoder replaying the recorded value.
+         *
+         * @param remainingLimits The limits for the decoder
+         * @return The decoder
+         */
+        @NonNull
+        public Decoder build(@NonNull RemainingLimits remainingLimits) {
+            return new TokenBufferDecoder(tokens, values, objects, 0, size, remainingLimits);
+        }
+
+        private void add(byte token, long value) {
+            if (size == tokens.length) {
+                tokens = Arrays.copyOf(tokens, size << 1);
+                values = Arrays.copyOf(values, size << 1);
+            }
+            tokens[size] = token;
+            values[size] = value;
+            size++;
+        }
+
+        private int addObject(Object value) {
+            if (objectCount == objects.length) {
+                objects = Arrays.copyOf(objects, objectCount << 1);
+            }
+            objects[objectCount] = value;
+            return objectCount++;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.micronaut.serde.support
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.json.JsonMapper
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class ConcurrentInitializationSpec extends Specification {
+
+    private static final int THREADS = 16
+    private static final String JSON = '{"name":"root","edges":[{"weight":1,"target":{"name":"leaf"},"label":{"text":"l","owner":{"name":"owner"}}}]}'
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS)
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def 'cyclic beans are initialized concurrently from different entry points'() {
+        given:
+        def expected = new GraphNode('root', [new GraphEdge(1, new GraphNode('leaf', null, null), new GraphLabel('l', new GraphNode('owner', null, null)))], null)
+        def errors = new CopyOnWriteArrayList<Throwable>()
+
+        when:
+        for (int round = 0; round < 20; round++) {
+            def ctx = ApplicationContext.run()
+            def mapper = ctx.getBean(JsonMapper)
+            def barrier = new CyclicBarrier(THREADS)
+            List<Future<?>> futures = (0..<THREADS).collect { int i ->
+                executor.submit {
+                    try {
+                        barrier.await()
+                        // start from different beans of the cycle, so that the threads meet halfway
+                        def edge = expected.edges()[0]
+                        if (i % 3 == 0) {
+                            assert mapper.readValue(JSON, GraphNode) == expected
+                        } else if (i % 3 == 1) {
+                            assert mapper.readValue(mapper.writeValueAsString(edge), GraphEdge) == edge
+                        } else {
+                            assert mapper.readValue(mapper.writeValueAsString(edge.label()), GraphLabel) == edge.label()
+                        }
+                        assert mapper.writeValueAsString(expected) == JSON
+                    } catch (Throwable t) {
+                        errors.add(t)
+                    }
+                }
+            }
+            futures.each { it.get(30, TimeUnit.SECONDS) }
+            ctx.close()
+        }
+
+        then:
+        errors.isEmpty()
+    }
+}
@@ -0,0 +1,29 @@
+package io.micronaut.serde.support
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeIntrospections
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class DefaultSerdeIntrospectionsSpec extends Specification {
+
+    @Inject
+    SerdeIntrospections introspections
+
+    def 'subtypes are found through the index'() {
+        when:
+        def subtypes = introspections.findSubtypeDeserializables(IndexedShape)*.beanType
+
+        then:
+        subtypes.toSet() == [IndexedSquare, IndexedCircle].toSet()
+        introspections.findSubtypeDeserializables(IndexedSquare).isEmpty()
+        introspections.findSubtypeDeserializables(IndexedCircle).isEmpty()
+    }
+
+    def 'serializable introspection falls back to a supertype'() {
+        expect:
+        introspections.getSerializableIntrospection(Argument.of(IndexedSquareExtension)).beanType == IndexedSquare
+    }
+}
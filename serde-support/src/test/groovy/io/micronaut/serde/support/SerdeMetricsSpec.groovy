@@ -0,0 +1,74 @@
+package io.micronaut.serde.support
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.type.Argument
+import io.micronaut.json.JsonMapper
+import io.micronaut.serde.support.metrics.DefaultSerdeMetrics
+import io.micronaut.serde.support.metrics.SerdeMetrics
+import spock.lang.Specification
+
+class SerdeMetricsSpec extends Specification {
+
+    def 'metrics are disabled by default'() {
+        given:
+        def ctx = ApplicationContext.run()
+
+        expect:
+        !ctx.containsBean(SerdeMetrics)
+        ((DefaultSerdeRegistry) ctx.getBean(io.micronaut.serde.SerdeRegistry)).metrics == SerdeMetrics.NOOP
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'metrics are recorded per type'() {
+        given:
+        def ctx = ApplicationContext.run(['micronaut.serde.metrics.enabled': true, 'micronaut.serde.metrics.allocations': true])
+        def mapper = ctx.getBean(JsonMapper)
+        def metrics = ctx.getBean(DefaultSerdeMetrics)
+        def registered = []
+        metrics.addListener { registered << it }
+
+        when:
+        def bytes = mapper.writeValueAsBytes(Argument.of(GraphNode), new GraphNode('root', null, null))
+        mapper.readValue(bytes, Argument.of(GraphNode))
+        mapper.readValue(bytes, Argument.of(GraphNode))
+        mapper.readValue('{"name":{}}', Argument.of(GraphNode))
+
+        then:
+        thrown(IOException)
+        def written = metrics.serializationStatistics.find { it.type.type == GraphNode }
+        written.count == 1
+        written.errors == 0
+        written.bytes == bytes.length
+        written.totalTimeNanos > 0
+        def read = metrics.deserializationStatistics.find { it.type.type == GraphNode }
+        read.count == 3
+        read.errors == 1
+        read.bytes == bytes.length * 2
+        read.maxTimeNanos > 0
+        registered.containsAll([written, read])
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'untyped values are recorded under their runtime type'() {
+        given:
+        def ctx = ApplicationContext.run(['micronaut.serde.metrics.enabled': true])
+        def mapper = ctx.getBean(JsonMapper)
+        def metrics = ctx.getBean(DefaultSerdeMetrics)
+
+        when:
+        def bytes = mapper.writeValueAsBytes(new GraphNode('root', null, null))
+
+        then:
+        def written = metrics.serializationStatistics.find { it.type.type == GraphNode }
+        written.count == 1
+        written.bytes == bytes.length
+        !metrics.serializationStatistics.any { it.type.type == Object }
+
+        cleanup:
+        ctx.close()
+    }
+}
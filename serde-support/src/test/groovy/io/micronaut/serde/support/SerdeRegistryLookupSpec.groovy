@@ -0,0 +1,49 @@
+package io.micronaut.serde.support
+
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.SerdeRegistry
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class SerdeRegistryLookupSpec extends Specification {
+
+    @Inject
+    SerdeRegistry serdeRegistry
+
+    def 'cached lookups return the same instance as the first lookup'() {
+        given:
+        def first = serdeRegistry.findSerializer(type)
+        def firstDeser = serdeRegistry.findDeserializer(type)
+        def fresh = serdeRegistry.cloneWithConfiguration(null, null, null)
+
+        expect:
+        serdeRegistry.findSerializer(type).is(first)
+        serdeRegistry.findDeserializer(type).is(firstDeser)
+        fresh.findSerializer(type).getClass() == first.getClass()
+        fresh.findDeserializer(type).getClass() == firstDeser.getClass()
+
+        where:
+        type << [
+            Argument.STRING,
+            Argument.INT,
+            Argument.of(Integer),
+            Argument.of(BigDecimal),
+            Argument.of(ArrayList),
+            Argument.listOf(String),
+            Argument.setOf(Integer),
+            Argument.mapOf(String, Long),
+            Argument.of(String[]),
+            Argument.of(int[]),
+            Argument.of(Optional, String),
+            Argument.of(ObjectWithMap)
+        ]
+    }
+
+    def 'primitive and wrapper lookups resolve the same serde'() {
+        expect:
+        serdeRegistry.findSerializer(Argument.INT).getClass() == serdeRegistry.findSerializer(Argument.of(Integer)).getClass()
+        serdeRegistry.findDeserializer(Argument.LONG).getClass() == serdeRegistry.findDeserializer(Argument.of(Long)).getClass()
+    }
+}
@@ -0,0 +1,57 @@
+package io.micronaut.serde.support
+
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+class SerdeWarmupSpec extends Specification {
+
+    def 'warmup is disabled by default'() {
+        given:
+        def ctx = ApplicationContext.run()
+
+        expect:
+        !ctx.containsBean(SerdeWarmup)
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'warmup prepares the serdeable types of the configured packages'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'micronaut.serde.warmup.enabled'    : true,
+                'micronaut.serde.warmup.packages'   : ['io.micronaut.serde.support'],
+                'micronaut.serde.warmup.parallelism': 4
+        ])
+
+        when:
+        def result = ctx.getBean(SerdeWarmup).warmup()
+
+        then:
+        result.types() > 0
+        result.serializers() > 0
+        result.deserializers() > 0
+        result.failures() == 0
+        !result.duration().negative
+
+        cleanup:
+        ctx.close()
+    }
+
+    def 'package filter does not match sibling packages'() {
+        given:
+        def ctx = ApplicationContext.run([
+                'micronaut.serde.warmup.enabled' : true,
+                'micronaut.serde.warmup.packages': ['io.micronaut.serde.supportx']
+        ])
+
+        when:
+        def result = ctx.getBean(SerdeWarmup).warmup()
+
+        then:
+        result.types() == 0
+
+        cleanup:
+        ctx.close()
+    }
+}
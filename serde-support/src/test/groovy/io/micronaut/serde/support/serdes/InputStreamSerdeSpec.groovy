@@ -0,0 +1,50 @@
+package io.micronaut.serde.support.serdes
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.json.JsonMapper
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class InputStreamSerdeSpec extends Specification {
+    def 'test input stream shapes'(Boolean writeLegacyByteArrays, String expectedJson) {
+        given:
+        def ctx = ApplicationContext.run(['micronaut.serde.write-binary-as-array': writeLegacyByteArrays])
+        def mapper = ctx.getBean(JsonMapper)
+
+        when:
+        def stream = new ByteArrayInputStream([0, 1] as byte[])
+        def actual = mapper.writeValueAsString(stream)
+        then:
+        actual == expectedJson
+        stream.available() == 0
+
+        when:
+        def read = mapper.readValue(expectedJson, InputStream)
+        then:
+        read.readAllBytes() == [0, 1] as byte[]
+
+        cleanup:
+        ctx.close()
+
+        where:
+        writeLegacyByteArrays | expectedJson
+        null                  | '[0,1]'
+        true                  | '[0,1]'
+        false                 | '"AAE="'
+    }
+
+    def 'byte buffer streams the remaining content'() {
+        given:
+        def ctx = ApplicationContext.run(['micronaut.serde.write-binary-as-array': false])
+        def mapper = ctx.getBean(JsonMapper)
+        def buffer = ByteBuffer.wrap([9, 0, 1, 9] as byte[], 1, 2).slice()
+
+        expect:
+        mapper.writeValueAsString(buffer) == '"AAE="'
+        buffer.remaining() == 2
+
+        cleanup:
+        ctx.close()
+    }
+}
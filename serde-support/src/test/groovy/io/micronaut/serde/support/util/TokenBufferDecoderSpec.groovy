@@ -0,0 +1,94 @@
+package io.micronaut.serde.support.util
+
+import io.micronaut.serde.Decoder
+import io.micronaut.serde.LimitingStream
+import spock.lang.Specification
+
+class TokenBufferDecoderSpec extends Specification {
+    private static Decoder create(Closure<?> recorder) {
+        def builder = TokenBufferDecoder.builder()
+        recorder.call(builder)
+        return builder.build(LimitingStream.DEFAULT_LIMITS)
+    }
+
+    def 'scalar decode'() {
+        expect:
+        create { it.number(42) }.decodeByte() == (byte) 42
+        create { it.number(42) }.decodeInt() == 42
+        create { it.number(42L) }.decodeLong() == 42L
+        create { it.number(42.5F) }.decodeFloat() == 42.5F
+        create { it.number(42.5D) }.decodeDouble() == 42.5D
+        create { it.number(42) }.decodeBigInteger() == BigInteger.valueOf(42)
+        create { it.number(new BigDecimal('42.50')) }.decodeBigDecimal() == new BigDecimal('42.50')
+        create { it.number(42) }.decodeArbitrary() == 42
+        create { it.number(42.5D) }.decodeString() == '42.5'
+
+        create { it.string('foo') }.decodeString() == 'foo'
+        create { it.bool(true) }.decodeBoolean()
+        create { it.nullValue() }.decodeNull()
+    }
+
+    def 'structure decode'() {
+        given:
+        def decoder = create {
+            it.startObject()
+            it.key('a')
+            it.startArray()
+            it.number(1)
+            it.startObject()
+            it.endObject()
+            it.endArray()
+            it.key('b')
+            it.string('foo')
+            it.endObject()
+        }
+
+        when:
+        def objectDecoder = decoder.decodeObject()
+
+        then:
+        objectDecoder.decodeKey() == 'a'
+
+        when:
+        def arrayDecoder = objectDecoder.decodeArray()
+
+        then:
+        arrayDecoder.hasNextArrayValue()
+        arrayDecoder.decodeInt() == 1
+        arrayDecoder.hasNextArrayValue()
+
+        when:
+        arrayDecoder.skipValue()
+
+        then:
+        !arrayDecoder.hasNextArrayValue()
+        arrayDecoder.finishStructure()
+        objectDecoder.decodeKey() == 'b'
+        objectDecoder.decodeString() == 'foo'
+        objectDecoder.decodeKey() == null
+        objectDecoder.finishStructure()
+    }
+
+    def 'nested buffer replays the same value'() {
+        given:
+        def decoder = create {
+            it.startArray()
+            it.startObject()
+            it.key('a')
+            it.number(1)
+            it.endObject()
+            it.string('foo')
+            it.endArray()
+        }
+
+        when:
+        def arrayDecoder = decoder.decodeArray()
+        def buffer = arrayDecoder.decodeBuffer()
+
+        then:
+        buffer.decodeArbitrary() == [a: 1]
+        arrayDecoder.decodeString() == 'foo'
+        !arrayDecoder.hasNextArrayValue()
+        arrayDecoder.finishStructure()
+    }
+}
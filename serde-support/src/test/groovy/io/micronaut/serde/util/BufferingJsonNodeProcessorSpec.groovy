@@ -316,9 +316,62 @@ class BufferingJsonNodeProcessorSpec extends Specification {
                 ['[{"abc', '":"def"', '}]'],
                 ['["abc', '", "def"]', '\n'],
                 ['[4', '2, 55, 56', '7]\n'],
+                ['[[1, 2], ', '{"a":[",", "]"]}', ', []', ']'],
+                ['[ ]', '\n'],
         ]
     }
 
+    def 'array elements are forwarded before the array is complete'() {
+        given:
+        def processor = new BufferingJsonNodeProcessorImpl(true)
+        def seen = new ArrayDeque<JsonNode>()
+        processor.onSubscribe(new Subscription() {
+            @Override
+            void request(long n) {
+            }
+
+            @Override
+            void cancel() {
+            }
+        })
+        processor.subscribe(new Subscriber<JsonNode>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE)
+            }
+
+            @Override
+            void onNext(JsonNode node) {
+                seen.add(node)
+            }
+
+            @Override
+            void onError(Throwable t) {
+                t.printStackTrace()
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        when:
+        processor.onNext('[{"abc":"def"},'.getBytes(StandardCharsets.UTF_8))
+        then:
+        seen.remove() == node('{"abc":"def"}')
+
+        when:
+        processor.onNext('[42],'.getBytes(StandardCharsets.UTF_8))
+        then:
+        seen.remove() == node('[42]')
+
+        when:
+        processor.onNext('"x"]'.getBytes(StandardCharsets.UTF_8))
+        then:
+        seen.remove() == node('"x"')
+        seen.isEmpty()
+    }
+
     static class BufferingJsonNodeProcessorImpl extends BufferingJsonNodeProcessor {
 
         BufferingJsonNodeProcessorImpl(boolean streamArray) {
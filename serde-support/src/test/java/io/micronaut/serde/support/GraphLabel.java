@@ -0,0 +1,7 @@
+package io.micronaut.serde.support;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public record GraphLabel(String text, GraphNode owner) {
+}
@@ -0,0 +1,9 @@
+package io.micronaut.serde.support;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+@Serdeable
+public record GraphNode(String name, List<GraphEdge> edges, GraphNode parent) {
+}
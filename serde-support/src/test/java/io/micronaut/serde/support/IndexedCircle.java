@@ -0,0 +1,21 @@
+package io.micronaut.serde.support;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public class IndexedCircle implements IndexedShape {
+    private final double radius;
+
+    public IndexedCircle(double radius) {
+        this.radius = radius;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    @Override
+    public double area() {
+        return Math.PI * radius * radius;
+    }
+}
@@ -0,0 +1,5 @@
+package io.micronaut.serde.support;
+
+public interface IndexedShape {
+    double area();
+}
@@ -0,0 +1,21 @@
+package io.micronaut.serde.support;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public class IndexedSquare implements IndexedShape {
+    private final double side;
+
+    public IndexedSquare(double side) {
+        this.side = side;
+    }
+
+    public double getSide() {
+        return side;
+    }
+
+    @Override
+    public double area() {
+        return side * side;
+    }
+}
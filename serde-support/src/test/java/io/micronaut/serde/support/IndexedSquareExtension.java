@@ -0,0 +1,7 @@
+package io.micronaut.serde.support;
+
+public class IndexedSquareExtension extends IndexedSquare {
+    public IndexedSquareExtension(double side) {
+        super(side);
+    }
+}